@@ -0,0 +1,35 @@
+package nextstep.subway;
+
+import java.util.concurrent.TimeUnit;
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.line.dto.LineResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LineResponseBenchmark {
+    @Param({"10", "100", "1000", "10000"})
+    int sectionCount;
+
+    Line line;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        line = new Line("신분당선", "bg-red-600");
+        line.addSections(SubwayFixtures.chain(SubwayFixtures.stations(sectionCount + 1)));
+    }
+
+    @Benchmark
+    public LineResponse of() {
+        return LineResponse.of(line);
+    }
+}
@@ -0,0 +1,34 @@
+package nextstep.subway;
+
+import java.util.concurrent.TimeUnit;
+import nextstep.subway.section.domain.Section;
+import nextstep.subway.station.domain.Station;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SectionBenchmark {
+    Station upStation = SubwayFixtures.station(1L, "상행역");
+    Station downStation = SubwayFixtures.station(2L, "하행역");
+    Station newStation = SubwayFixtures.station(3L, "신규역");
+
+    @Benchmark
+    public Section updateUpStation() {
+        Section section = new Section(upStation, downStation, SubwayFixtures.SECTION_DISTANCE);
+        section.update(new Section(upStation, newStation, SubwayFixtures.SECTION_DISTANCE - 1));
+        return section;
+    }
+
+    @Benchmark
+    public Section updateDownStation() {
+        Section section = new Section(upStation, downStation, SubwayFixtures.SECTION_DISTANCE);
+        section.update(new Section(newStation, downStation, SubwayFixtures.SECTION_DISTANCE - 1));
+        return section;
+    }
+}
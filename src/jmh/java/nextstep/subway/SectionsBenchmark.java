@@ -0,0 +1,77 @@
+package nextstep.subway;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import nextstep.subway.section.domain.Section;
+import nextstep.subway.section.domain.Sections;
+import nextstep.subway.station.domain.Station;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SectionsBenchmark {
+    @Param({"10", "100", "1000", "10000"})
+    int sectionCount;
+
+    List<Station> stations;
+    List<Section> chain;
+    Station newStation;
+
+    // 조회와 일괄 등록은 노선을 바꾸지 않으므로 한 번만 준비합니다.
+    @Setup(Level.Trial)
+    public void setUp() {
+        stations = SubwayFixtures.stations(sectionCount + 1);
+        newStation = SubwayFixtures.station(sectionCount + 2, "신규역");
+        chain = SubwayFixtures.chain(stations);
+    }
+
+    /**
+     * add 는 구간을 바꾸므로 매 호출마다 새 노선을 만듭니다. 준비 시간은 측정에서 빠지지만
+     * Level.Invocation 은 호출마다 타이머를 건드리므로 이 상태를 쓰는 벤치마크에만 둡니다.
+     */
+    @State(Scope.Thread)
+    public static class FreshSections {
+        Sections sections;
+
+        @Setup(Level.Invocation)
+        public void setUp(SectionsBenchmark benchmark) {
+            sections = Sections.create();
+            sections.addAll(SubwayFixtures.chain(benchmark.stations));
+        }
+    }
+
+    // Sections 는 역 id 인덱스를 처음 쓸 때 만들어 두므로, 요청마다 새로 읽은 노선처럼 인덱스를 만드는 비용까지 잽니다.
+    @Benchmark
+    public List<Station> getStations() {
+        return new Sections(chain).getStations();
+    }
+
+    @Benchmark
+    public Sections addAtDownTerminus(FreshSections fresh) {
+        fresh.sections.add(new Section(stations.get(sectionCount), newStation, SubwayFixtures.SECTION_DISTANCE));
+        return fresh.sections;
+    }
+
+    @Benchmark
+    public Sections addInMiddle(FreshSections fresh) {
+        Station middle = stations.get(sectionCount / 2);
+        fresh.sections.add(new Section(middle, newStation, SubwayFixtures.SECTION_DISTANCE - 1));
+        return fresh.sections;
+    }
+
+    @Benchmark
+    public Sections addAll() {
+        Sections built = Sections.create();
+        built.addAll(SubwayFixtures.chain(stations));
+        return built;
+    }
+}
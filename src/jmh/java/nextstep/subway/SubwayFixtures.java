@@ -0,0 +1,45 @@
+package nextstep.subway;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import nextstep.subway.section.domain.Section;
+import nextstep.subway.station.domain.Station;
+import org.springframework.util.ReflectionUtils;
+
+public class SubwayFixtures {
+    public static final int SECTION_DISTANCE = 10;
+    private static final Field STATION_ID = stationIdField();
+
+    private SubwayFixtures() {
+    }
+
+    public static List<Station> stations(int count) {
+        List<Station> stations = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            stations.add(station(id, "역" + id));
+        }
+        return stations;
+    }
+
+    // 엔티티에 id 를 받는 생성자를 열지 않도록, 저장하지 않은 역에 리플렉션으로 id 를 넣습니다.
+    public static Station station(long id, String name) {
+        Station station = new Station(name);
+        ReflectionUtils.setField(STATION_ID, station, id);
+        return station;
+    }
+
+    public static List<Section> chain(List<Station> stations) {
+        List<Section> sections = new ArrayList<>(stations.size() - 1);
+        for (int i = 0; i < stations.size() - 1; i++) {
+            sections.add(new Section(stations.get(i), stations.get(i + 1), SECTION_DISTANCE));
+        }
+        return sections;
+    }
+
+    private static Field stationIdField() {
+        Field field = ReflectionUtils.findField(Station.class, "id");
+        ReflectionUtils.makeAccessible(field);
+        return field;
+    }
+}
@@ -0,0 +1,90 @@
+package nextstep.subway.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * JDK 8 에서 추가 의존성 없이 쓸 수 있도록 HttpURLConnection 으로 요청을 보냅니다.
+ * keep-alive 는 JDK 가 호스트별로 관리하므로 응답 본문을 끝까지 읽어 연결이 재사용되도록 합니다.
+ */
+public class HttpDriver {
+    private final String baseUrl;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public HttpDriver(int port) {
+        this.baseUrl = "http://localhost:" + port;
+    }
+
+    public HttpResult get(String path) throws IOException {
+        return send("GET", path, null);
+    }
+
+    public HttpResult post(String path, Object body) throws IOException {
+        return send("POST", path, objectMapper.writeValueAsBytes(body));
+    }
+
+    private HttpResult send(String method, String path, byte[] body) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(baseUrl + path).openConnection();
+        connection.setRequestMethod(method);
+        connection.setRequestProperty("Accept", "application/json");
+        if (body != null) {
+            connection.setDoOutput(true);
+            connection.setRequestProperty("Content-Type", "application/json");
+            try (OutputStream outputStream = connection.getOutputStream()) {
+                outputStream.write(body);
+            }
+        }
+
+        int status = connection.getResponseCode();
+        InputStream inputStream = status < 400 ? connection.getInputStream() : connection.getErrorStream();
+        return new HttpResult(status, readFully(inputStream));
+    }
+
+    private byte[] readFully(InputStream inputStream) throws IOException {
+        if (inputStream == null) {
+            return new byte[0];
+        }
+        try (InputStream in = inputStream) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    public class HttpResult {
+        private final int status;
+        private final byte[] body;
+
+        private HttpResult(int status, byte[] body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        public int getStatus() {
+            return status;
+        }
+
+        public boolean isSuccessful() {
+            return status >= 200 && status < 300;
+        }
+
+        public JsonNode json() throws IOException {
+            return objectMapper.readTree(body);
+        }
+
+        public String text() {
+            return new String(body, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package nextstep.subway.load;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 엔드포인트별 응답 시간을 모아 요청 수, 초당 요청 수, 백분위 응답 시간을 계산합니다.
+ * 보내지 못한 요청은 응답 시간 없이 skipped 로만 셉니다.
+ */
+public class LatencyRecorder {
+    private final Map<String, Samples> samplesByEndpoint = new ConcurrentHashMap<>();
+
+    public void record(String endpoint, long elapsedNanos, boolean successful) {
+        samplesByEndpoint.computeIfAbsent(endpoint, key -> new Samples()).add(elapsedNanos, successful);
+    }
+
+    public void skip(String endpoint) {
+        samplesByEndpoint.computeIfAbsent(endpoint, key -> new Samples()).skip();
+    }
+
+    public Map<String, Map<String, Object>> summarize(double elapsedSeconds) {
+        Map<String, Map<String, Object>> summary = new LinkedHashMap<>();
+        samplesByEndpoint.keySet().stream()
+                .sorted()
+                .forEach(endpoint -> summary.put(endpoint, samplesByEndpoint.get(endpoint).summarize(elapsedSeconds)));
+        return summary;
+    }
+
+    private static class Samples {
+        private long[] elapsedNanos = new long[1024];
+        private int count;
+        private int errors;
+        private int skipped;
+
+        synchronized void add(long elapsed, boolean successful) {
+            if (count == elapsedNanos.length) {
+                elapsedNanos = Arrays.copyOf(elapsedNanos, count * 2);
+            }
+            elapsedNanos[count++] = elapsed;
+            if (!successful) {
+                errors++;
+            }
+        }
+
+        synchronized void skip() {
+            skipped++;
+        }
+
+        synchronized Map<String, Object> summarize(double elapsedSeconds) {
+            long[] sorted = Arrays.copyOf(elapsedNanos, count);
+            Arrays.sort(sorted);
+
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("requests", count);
+            summary.put("errors", errors);
+        summary.put("skipped", skipped);
+            summary.put("requestsPerSecond", round(count / elapsedSeconds));
+            summary.put("p50Ms", percentileMillis(sorted, 0.50));
+            summary.put("p90Ms", percentileMillis(sorted, 0.90));
+            summary.put("p99Ms", percentileMillis(sorted, 0.99));
+            summary.put("maxMs", percentileMillis(sorted, 1.0));
+            return summary;
+        }
+
+        private static double percentileMillis(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return round(sorted[Math.max(index, 0)] / 1_000_000.0);
+        }
+
+        private static double round(double value) {
+            return Math.round(value * 100) / 100.0;
+        }
+    }
+}
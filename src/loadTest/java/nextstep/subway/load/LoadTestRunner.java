@@ -0,0 +1,241 @@
+package nextstep.subway.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import nextstep.subway.SubwayApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 내장 H2 로 애플리케이션을 띄우고 실제 HTTP 엔드포인트에 부하를 줍니다.
+ * 1. 역 단건 등록과 일괄 등록의 처리량을 비교하고
+ * 2. 노선망을 만든 뒤 조회와 구간 등록을 섞어 정해진 시간 동안 요청을 보냅니다.
+ * 결과는 버전 간에 비교할 수 있도록 JSON 파일로 남깁니다. 연결 오류도 실패로 세고, 추가할 역이 떨어져 보내지 못한 구간 등록은 skipped 로 셉니다.
+ *
+ * 설정(시스템 프로퍼티): load.threads, load.durationSeconds, load.lines, load.stationsPerLine,
+ * load.writeStations, load.insertStations, load.profile, load.output,
+ * load.execution(subway.web.execution), load.tomcatThreads(server.tomcat.threads.max)
+ * 같은 load.threads 와 load.tomcatThreads 로 load.execution 만 바꿔 실행하면 두 실행 방식이 동시 연결을 얼마나 받는지 비교할 수 있습니다.
+ */
+public class LoadTestRunner {
+    private static final int BULK_SIZE = 500;
+    private static final int SECTION_DISTANCE = 10;
+
+    private final HttpDriver driver;
+    private final int threads = Integer.getInteger("load.threads", 16);
+    private final int durationSeconds = Integer.getInteger("load.durationSeconds", 30);
+    private final int lineCount = Integer.getInteger("load.lines", 20);
+    private final int stationsPerLine = Integer.getInteger("load.stationsPerLine", 25);
+    private final int writeStationCount = Integer.getInteger("load.writeStations", 5000);
+    private final int insertStationCount = Integer.getInteger("load.insertStations", 1000);
+    private final String execution = System.getProperty("load.execution", "sync");
+    private final int tomcatThreads = Integer.getInteger("load.tomcatThreads", 200);
+
+    private final List<Long> lineIds = new ArrayList<>();
+    private final Map<Long, Long> downTerminusByLineId = new ConcurrentHashMap<>();
+    private final Map<Long, Object> writeLockByLineId = new HashMap<>();
+    private final ConcurrentLinkedQueue<Long> writeStationIds = new ConcurrentLinkedQueue<>();
+
+    private LoadTestRunner(HttpDriver driver) {
+        this.driver = driver;
+    }
+
+    public static void main(String[] args) throws Exception {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(SubwayApplication.class)
+                .properties("server.port=0",
+                        "subway.web.execution=" + System.getProperty("load.execution", "sync"),
+                        "server.tomcat.threads.max=" + Integer.getInteger("load.tomcatThreads", 200));
+        String profile = System.getProperty("load.profile");
+        if (profile != null) {
+            builder.profiles(profile);
+        }
+
+        try (ConfigurableApplicationContext context = builder.run(args)) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            new LoadTestRunner(new HttpDriver(port)).run();
+        }
+    }
+
+    private void run() throws Exception {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("config", config());
+        report.put("stationInsert", compareStationInserts());
+
+        seedNetwork();
+        report.put("mixed", runMixedScenario());
+
+        File output = new File(System.getProperty("load.output", "build/reports/load-test/results.json"));
+        output.getParentFile().mkdirs();
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(output, report);
+        System.out.println("load test report: " + output.getAbsolutePath());
+    }
+
+    private Map<String, Object> config() {
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("threads", threads);
+        config.put("durationSeconds", durationSeconds);
+        config.put("lines", lineCount);
+        config.put("stationsPerLine", stationsPerLine);
+        config.put("writeStations", writeStationCount);
+        config.put("insertStations", insertStationCount);
+        config.put("execution", execution);
+        config.put("tomcatThreads", tomcatThreads);
+        return config;
+    }
+
+    private Map<String, Object> compareStationInserts() throws Exception {
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < insertStationCount; i++) {
+            driver.post("/stations", Collections.singletonMap("name", "단건역" + i));
+        }
+        double singleSeconds = secondsSince(startedAt);
+
+        startedAt = System.nanoTime();
+        createStations("일괄역", insertStationCount);
+        double bulkSeconds = secondsSince(startedAt);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("stations", insertStationCount);
+        result.put("singleStationsPerSecond", Math.round(insertStationCount / singleSeconds));
+        result.put("bulkStationsPerSecond", Math.round(insertStationCount / bulkSeconds));
+        return result;
+    }
+
+    private void seedNetwork() throws Exception {
+        List<Long> stationIds = createStations("노선역", lineCount * stationsPerLine);
+        for (int line = 0; line < lineCount; line++) {
+            List<Long> lineStationIds = stationIds.subList(line * stationsPerLine, (line + 1) * stationsPerLine);
+            Map<String, Object> request = new HashMap<>();
+            request.put("name", "부하노선" + line);
+            request.put("color", "bg-load-" + line);
+            request.put("stationIds", lineStationIds);
+            request.put("distances", Collections.nCopies(stationsPerLine - 1, SECTION_DISTANCE));
+
+            Long lineId = driver.post("/lines/import", request).json().get("id").asLong();
+            lineIds.add(lineId);
+            downTerminusByLineId.put(lineId, lineStationIds.get(lineStationIds.size() - 1));
+            writeLockByLineId.put(lineId, new Object());
+        }
+        writeStationIds.addAll(createStations("추가역", writeStationCount));
+    }
+
+    private List<Long> createStations(String prefix, int count) throws Exception {
+        List<Long> stationIds = new ArrayList<>(count);
+        for (int offset = 0; offset < count; offset += BULK_SIZE) {
+            List<Map<String, String>> requests = new ArrayList<>();
+            for (int i = offset; i < Math.min(offset + BULK_SIZE, count); i++) {
+                requests.add(Collections.singletonMap("name", prefix + i));
+            }
+            for (JsonNode station : driver.post("/stations/bulk", requests).json().get("stations")) {
+                stationIds.add(station.get("id").asLong());
+            }
+        }
+        return stationIds;
+    }
+
+    private Map<String, Map<String, Object>> runMixedScenario() throws Exception {
+        LatencyRecorder recorder = new LatencyRecorder();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(durationSeconds);
+        long startedAt = System.nanoTime();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<Void>> workers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            workers.add(executor.submit(() -> {
+                while (System.nanoTime() < deadline) {
+                    sendRandomRequest(recorder);
+                }
+                return null;
+            }));
+        }
+        executor.shutdown();
+        if (!executor.awaitTermination(durationSeconds + 60L, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+            throw new IllegalStateException("부하 작업이 제한 시간 안에 끝나지 않았습니다.");
+        }
+        for (Future<Void> worker : workers) {
+            try {
+                worker.get();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("부하 작업이 실패했습니다.", e.getCause());
+            }
+        }
+
+        return recorder.summarize(secondsSince(startedAt));
+    }
+
+    private void sendRandomRequest(LatencyRecorder recorder) {
+        int dice = ThreadLocalRandom.current().nextInt(100);
+        Long lineId = lineIds.get(ThreadLocalRandom.current().nextInt(lineIds.size()));
+        if (dice < 35) {
+            timed(recorder, "GET /lines", () -> driver.get("/lines"));
+        } else if (dice < 60) {
+            timed(recorder, "GET /lines/{id}", () -> driver.get("/lines/" + lineId));
+        } else if (dice < 90) {
+            timed(recorder, "GET /stations", () -> driver.get("/stations"));
+        } else {
+            addSectionAtDownTerminus(recorder, lineId);
+        }
+    }
+
+    // 부하 도구 쪽에서 노선별로 하행 종점을 맞춰 두어야 요청이 검증에 걸리지 않으므로 노선 단위로 순서를 지킵니다.
+    private void addSectionAtDownTerminus(LatencyRecorder recorder, Long lineId) {
+        Long newStationId = writeStationIds.poll();
+        if (newStationId == null) {
+            recorder.skip("POST /lines/{id}/stations");
+            return;
+        }
+        synchronized (writeLockByLineId.get(lineId)) {
+            Long downTerminus = downTerminusByLineId.get(lineId);
+            Map<String, Object> request = new HashMap<>();
+            request.put("upStationId", downTerminus);
+            request.put("downStationId", newStationId);
+            request.put("distance", SECTION_DISTANCE);
+
+            boolean successful = timed(recorder, "POST /lines/{id}/stations",
+                    () -> driver.post("/lines/" + lineId + "/stations", request));
+            if (successful) {
+                downTerminusByLineId.put(lineId, newStationId);
+            }
+        }
+    }
+
+    // 연결이 끊기거나 거절돼 응답을 받지 못한 요청도 작업을 멈추지 않고 실패로 기록합니다.
+    private boolean timed(LatencyRecorder recorder, String endpoint, Request request) {
+        long startedAt = System.nanoTime();
+        boolean successful;
+        try {
+            successful = request.send().isSuccessful();
+        } catch (IOException e) {
+            successful = false;
+        }
+        recorder.record(endpoint, System.nanoTime() - startedAt, successful);
+        return successful;
+    }
+
+    private static double secondsSince(long startedAt) {
+        return (System.nanoTime() - startedAt) / 1_000_000_000.0;
+    }
+
+    private interface Request {
+        HttpDriver.HttpResult send() throws IOException;
+    }
+}
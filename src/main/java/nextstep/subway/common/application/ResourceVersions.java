@@ -0,0 +1,88 @@
+package nextstep.subway.common.application;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import nextstep.subway.common.config.CacheConfig;
+import nextstep.subway.line.domain.LineChangedEvent;
+import nextstep.subway.station.domain.StationChangedEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 노선과 역 목록의 변경 횟수로 ETag 를 만들고, 노선 조회 캐시를 채우고 비웁니다.
+ * 커밋 이후 노선 캐시를 먼저 비우고 나서 버전을 올리므로, 새 ETag 를 받은 조회가 캐시에 남은 이전 본문을 받는 일은 없습니다.
+ * 재시작 후 같은 버전 번호가 다른 데이터를 가리키지 않도록 기동 시각을 함께 넣습니다.
+ */
+@Component
+public class ResourceVersions {
+    private final long epoch = System.currentTimeMillis();
+    private final AtomicLong lineVersion = new AtomicLong();
+    private final AtomicLong stationVersion = new AtomicLong();
+    private final AtomicLong lineInvalidations = new AtomicLong();
+    private final CacheManager cacheManager;
+
+    public ResourceVersions(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLineChanged(LineChangedEvent event) {
+        lineInvalidations.incrementAndGet();
+        if (event.getLineId() == null) {
+            cache(CacheConfig.LINE).clear();
+        } else {
+            cache(CacheConfig.LINE).evict(event.getLineId());
+        }
+        cache(CacheConfig.LINES).clear();
+        lineVersion.incrementAndGet();
+    }
+
+    /**
+     * 역을 만들거나 노선에 없는 역을 지워도 노선은 바뀌지 않으므로 역 버전만 올립니다.
+     * 노선에서 역을 빼는 연쇄 삭제는 바뀐 노선마다 LineChangedEvent 를 따로 발행하므로 여기서 노선 캐시를 비우지 않습니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStationChanged(StationChangedEvent event) {
+        stationVersion.incrementAndGet();
+    }
+
+    /**
+     * 노선 캐시에 없으면 loader 로 읽어 넣습니다. 읽기 시작한 뒤 노선이 바뀌었다면 커밋 전 데이터를 읽었을 수 있으므로 넣은 값을 다시 뺍니다.
+     * 무효화 횟수는 캐시를 비우기 전에 올리므로, 값을 넣은 뒤 확인하기 전에 무효화가 시작됐다면 이 확인에서,
+     * 확인한 뒤에 시작됐다면 그 무효화가 캐시를 비우면서 오래된 값이 빠집니다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getOrLoadLines(String cacheName, Object key, Supplier<T> loader) {
+        Cache cache = cache(cacheName);
+        Cache.ValueWrapper cached = cache.get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+
+        long invalidations = lineInvalidations.get();
+        T loaded = loader.get();
+        cache.put(key, loaded);
+        if (lineInvalidations.get() != invalidations) {
+            cache.evict(key);
+        }
+        return loaded;
+    }
+
+    public String lineETag() {
+        return eTag("lines", lineVersion.get());
+    }
+
+    public String stationETag() {
+        return eTag("stations", stationVersion.get());
+    }
+
+    private Cache cache(String name) {
+        return cacheManager.getCache(name);
+    }
+
+    private String eTag(String resource, long version) {
+        return "\"" + resource + "-" + epoch + "-" + version + "\"";
+    }
+}
@@ -0,0 +1,15 @@
+package nextstep.subway.common.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 노선 캐시는 @Cacheable 대신 ResourceVersions 가 직접 채우고 비웁니다.
+ * 조회 도중 커밋된 변경이 캐시를 비운 뒤에 이전 데이터를 넣는 일이 없도록 무효화 횟수를 확인하고 넣기 위해서입니다.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    public static final String LINE = "line";
+    public static final String LINES = "lines";
+}
@@ -0,0 +1,20 @@
+package nextstep.subway.common.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 서비스 메서드의 @Timed 를 처리합니다. 타이머에는 class, method 태그가 붙습니다.
+ * 컨트롤러 핸들러는 스프링 MVC 가 http.server.requests 로 따로 기록합니다.
+ */
+@Configuration
+public class MetricsConfig {
+    public static final String SERVICE_TIMER = "subway.service";
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
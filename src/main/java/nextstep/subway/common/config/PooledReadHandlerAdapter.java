@@ -0,0 +1,53 @@
+package nextstep.subway.common.config;
+
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.ServletInvocableHandlerMethod;
+
+/**
+ * async 모드에서만 등록되는 어댑터입니다. ResponseEntity 를 돌려주는 GET 핸들러를 WebAsyncTask 로 감싸 전용 풀에서 실행합니다.
+ * 쓰기 핸들러는 노선 쓰기 락을 기다리고 충돌하면 물러났다 다시 시도하므로 풀에 올리지 않고 요청을 받은 Tomcat 스레드에서 실행합니다.
+ * 그래서 한 노선에 쓰기가 몰려도 풀과 큐를 채워 조회까지 503 을 받게 만들지 않습니다.
+ * 응답을 스트리밍하는 내보내기처럼 ResponseEntity 를 돌려주지 않는 GET 핸들러도 그대로 둡니다.
+ */
+class PooledReadHandlerAdapter extends RequestMappingHandlerAdapter {
+    private final AsyncTaskExecutor handlerPool;
+
+    PooledReadHandlerAdapter(AsyncTaskExecutor handlerPool) {
+        this.handlerPool = handlerPool;
+    }
+
+    @Override
+    protected ServletInvocableHandlerMethod createInvocableHandlerMethod(HandlerMethod handlerMethod) {
+        if (!isPooled(handlerMethod)) {
+            return super.createInvocableHandlerMethod(handlerMethod);
+        }
+        return new PooledInvocableHandlerMethod(handlerMethod, handlerPool);
+    }
+
+    private boolean isPooled(HandlerMethod handlerMethod) {
+        return handlerMethod.hasMethodAnnotation(GetMapping.class)
+                && ResponseEntity.class.isAssignableFrom(handlerMethod.getReturnType().getParameterType());
+    }
+
+    private static class PooledInvocableHandlerMethod extends ServletInvocableHandlerMethod {
+        private final AsyncTaskExecutor handlerPool;
+
+        PooledInvocableHandlerMethod(HandlerMethod handlerMethod, AsyncTaskExecutor handlerPool) {
+            super(handlerMethod);
+            this.handlerPool = handlerPool;
+        }
+
+        // 제한 시간은 configureAsyncSupport 의 기본값(subway.web.timeout-ms)을 따릅니다.
+        @Override
+        public Object invokeForRequest(NativeWebRequest request, ModelAndViewContainer mavContainer, Object... providedArgs) {
+            return new WebAsyncTask<>(null, handlerPool, () -> super.invokeForRequest(request, mavContainer, providedArgs));
+        }
+    }
+}
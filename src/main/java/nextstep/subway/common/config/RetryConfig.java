@@ -0,0 +1,33 @@
+package nextstep.subway.common.config;
+
+import java.util.Collections;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.retry.backoff.ExponentialRandomBackOffPolicy;
+import org.springframework.retry.policy.SimpleRetryPolicy;
+import org.springframework.retry.support.RetryTemplate;
+
+/**
+ * 같은 노선을 동시에 바꿔 낙관적 락이 충돌하면 다시 시도하는 정책입니다.
+ * 트랜잭션을 가진 서비스 메서드 호출을 통째로 감싸 실행하므로, 커밋 중에 발생한 충돌도 매번 새 트랜잭션으로 다시 시도합니다.
+ * advisor 순서에 기대지 않도록 @Retryable 대신 템플릿을 직접 씁니다.
+ */
+@Configuration
+public class RetryConfig {
+    public static final int MAX_ATTEMPTS = 5;
+
+    @Bean
+    public RetryTemplate concurrencyRetryTemplate() {
+        ExponentialRandomBackOffPolicy backOffPolicy = new ExponentialRandomBackOffPolicy();
+        backOffPolicy.setInitialInterval(10);
+        backOffPolicy.setMultiplier(2);
+        backOffPolicy.setMaxInterval(200);
+
+        RetryTemplate retryTemplate = new RetryTemplate();
+        retryTemplate.setRetryPolicy(new SimpleRetryPolicy(MAX_ATTEMPTS,
+                Collections.singletonMap(ConcurrencyFailureException.class, true)));
+        retryTemplate.setBackOffPolicy(backOffPolicy);
+        return retryTemplate;
+    }
+}
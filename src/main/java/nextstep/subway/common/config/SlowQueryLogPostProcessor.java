@@ -0,0 +1,35 @@
+package nextstep.subway.common.config;
+
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import net.ttddyy.dsproxy.listener.logging.SLF4JLogLevel;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * DataSource 를 프록시로 감싸 임계 시간을 넘긴 SQL 만 로그로 남깁니다.
+ * 모든 SQL 을 출력하는 show_sql 은 dev 프로필에서만 켭니다.
+ */
+@Component
+public class SlowQueryLogPostProcessor implements BeanPostProcessor {
+    private static final String LOGGER_NAME = "nextstep.subway.slow-query";
+
+    private long thresholdMillis;
+
+    public SlowQueryLogPostProcessor(@Value("${subway.slow-query.threshold-ms:300}") long thresholdMillis) {
+        this.thresholdMillis = thresholdMillis;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource)) {
+            return bean;
+        }
+        return ProxyDataSourceBuilder.create((DataSource) bean)
+                .name(beanName)
+                .logSlowQueryBySlf4j(thresholdMillis, TimeUnit.MILLISECONDS, SLF4JLogLevel.WARN, LOGGER_NAME)
+                .build();
+    }
+}
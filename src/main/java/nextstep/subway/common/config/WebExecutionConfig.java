@@ -0,0 +1,76 @@
+package nextstep.subway.common.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcRegistrations;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+/**
+ * 컨트롤러를 어느 스레드에서 실행할지 정합니다. 컨트롤러는 모드와 관계없이 ResponseEntity 를 돌려줍니다.
+ * sync(기본값)는 모든 핸들러를 요청을 받은 Tomcat 스레드에서 실행하며 비동기 요청을 시작하지 않습니다.
+ * async 는 조회 핸들러만 크기가 정해진 전용 풀에서 실행하고(PooledReadHandlerAdapter), 풀과 큐가 가득 차면 503 을 응답합니다.
+ * JDBC 는 풀 스레드를 그대로 막으므로 async 는 처리량을 늘리는 설정이 아닙니다. 동시에 처리하는 조회를 pool-size 개로 묶어 두는 설정입니다.
+ */
+@Configuration
+public class WebExecutionConfig implements WebMvcConfigurer, DisposableBean {
+    private int poolSize;
+    private int queueCapacity;
+    private long timeoutMillis;
+    private MeterRegistry meterRegistry;
+    private ThreadPoolTaskExecutor handlerPool;
+
+    public WebExecutionConfig(@Value("${subway.web.pool-size:32}") int poolSize,
+                              @Value("${subway.web.queue-capacity:1000}") int queueCapacity,
+                              @Value("${subway.web.timeout-ms:30000}") long timeoutMillis,
+                              MeterRegistry meterRegistry) {
+        this.poolSize = poolSize;
+        this.queueCapacity = queueCapacity;
+        this.timeoutMillis = timeoutMillis;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(timeoutMillis);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "subway.web.execution", havingValue = "async")
+    public WebMvcRegistrations pooledReadHandlers() {
+        ThreadPoolTaskExecutor pool = createHandlerPool();
+        return new WebMvcRegistrations() {
+            @Override
+            public RequestMappingHandlerAdapter getRequestMappingHandlerAdapter() {
+                return new PooledReadHandlerAdapter(pool);
+            }
+        };
+    }
+
+    private ThreadPoolTaskExecutor createHandlerPool() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("subway-handler-");
+        executor.initialize();
+        new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), "subway.handler", Tags.empty()).bindTo(meterRegistry);
+        handlerPool = executor;
+        return executor;
+    }
+
+    @Override
+    public void destroy() {
+        if (handlerPool != null) {
+            handlerPool.shutdown();
+        }
+    }
+}
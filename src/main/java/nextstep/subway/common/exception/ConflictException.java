@@ -0,0 +1,7 @@
+package nextstep.subway.common.exception;
+
+public class ConflictException extends RuntimeException {
+    public ConflictException(String message) {
+        super(message);
+    }
+}
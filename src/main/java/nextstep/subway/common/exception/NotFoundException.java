@@ -0,0 +1,7 @@
+package nextstep.subway.common.exception;
+
+public class NotFoundException extends RuntimeException {
+    public NotFoundException(String message) {
+        super(message);
+    }
+}
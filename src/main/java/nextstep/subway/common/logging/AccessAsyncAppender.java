@@ -0,0 +1,16 @@
+package nextstep.subway.common.logging;
+
+import ch.qos.logback.access.spi.IAccessEvent;
+import ch.qos.logback.core.AsyncAppenderBase;
+
+/**
+ * 접근 로그를 별도 스레드에서 기록합니다.
+ * 요청 객체는 응답 이후 재사용되므로 큐에 넣기 전에 로그에 필요한 값을 이벤트에 복사해 둡니다.
+ */
+public class AccessAsyncAppender extends AsyncAppenderBase<IAccessEvent> {
+
+    @Override
+    protected void preprocess(IAccessEvent event) {
+        event.prepareForDeferredProcessing();
+    }
+}
@@ -0,0 +1,23 @@
+package nextstep.subway.common.logging;
+
+import ch.qos.logback.access.spi.IAccessEvent;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
+
+/**
+ * 표본으로 뽑힌 요청과 4xx, 5xx 응답만 전체 요청/응답 로그로 넘깁니다.
+ */
+public class SampledOrErrorFilter extends Filter<IAccessEvent> {
+    private static final int ERROR_STATUS = 400;
+
+    @Override
+    public FilterReply decide(IAccessEvent event) {
+        if (event.getStatusCode() >= ERROR_STATUS) {
+            return FilterReply.ACCEPT;
+        }
+        if (Boolean.TRUE.toString().equals(event.getAttribute(SampledTeeFilter.SAMPLED_ATTRIBUTE))) {
+            return FilterReply.ACCEPT;
+        }
+        return FilterReply.DENY;
+    }
+}
@@ -0,0 +1,87 @@
+package nextstep.subway.common.logging;
+
+import ch.qos.logback.access.AccessConstants;
+import ch.qos.logback.access.servlet.TeeFilter;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 표본으로 뽑힌 요청만 본문을 복사해 두어 접근 로그에 요청/응답 본문이 남도록 합니다.
+ * 나머지 요청은 본문을 버퍼링하지 않습니다. 응답을 스트리밍하는 경로는 표본에서 제외합니다.
+ * async 모드에서 풀에서 실행한 조회는 응답 본문이 ASYNC 재디스패치에서 쓰이므로 그 디스패치에서도 응답 본문을 다시 복사합니다.
+ */
+@Component
+public class SampledTeeFilter extends OncePerRequestFilter {
+    public static final String SAMPLED_ATTRIBUTE = SampledTeeFilter.class.getName() + ".SAMPLED";
+
+    private final TeeFilter teeFilter = new TeeFilter();
+    private double sampleRate;
+    private List<String> excludedPaths;
+
+    public SampledTeeFilter(@Value("${subway.access-log.sample-rate:0}") double sampleRate,
+                            @Value("${subway.access-log.sample-excludes:}") String[] excludedPaths) {
+        this.sampleRate = sampleRate;
+        this.excludedPaths = Arrays.asList(excludedPaths);
+    }
+
+    @Override
+    protected void initFilterBean() throws ServletException {
+        if (getFilterConfig() != null) {
+            teeFilter.init(getFilterConfig());
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (isAsyncDispatch(request)) {
+            if (request.getAttribute(SAMPLED_ATTRIBUTE) == null) {
+                chain.doFilter(request, response);
+                return;
+            }
+            // 요청 본문은 첫 디스패치에서 이미 읽어 두었으므로, 비어 있는 본문으로 덮어쓰지 않도록 되돌려 놓습니다.
+            Object inputBuffer = request.getAttribute(AccessConstants.LB_INPUT_BUFFER);
+            try {
+                teeFilter.doFilter(request, response, chain);
+            } finally {
+                if (inputBuffer != null) {
+                    request.setAttribute(AccessConstants.LB_INPUT_BUFFER, inputBuffer);
+                }
+            }
+            return;
+        }
+
+        if (!isSampled(request)) {
+            chain.doFilter(request, response);
+            return;
+        }
+        request.setAttribute(SAMPLED_ATTRIBUTE, Boolean.TRUE);
+        teeFilter.doFilter(request, response, chain);
+    }
+
+    private boolean isSampled(HttpServletRequest request) {
+        if (sampleRate <= 0 || excludedPaths.contains(request.getRequestURI())) {
+            return false;
+        }
+        return ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    @Override
+    public void destroy() {
+        teeFilter.destroy();
+    }
+}
@@ -1,9 +1,15 @@
 package nextstep.subway.common.ui;
 
 import java.util.HashMap;
+import nextstep.subway.common.exception.ConflictException;
+import nextstep.subway.common.exception.NotFoundException;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
 
 @RestController
 public class BaseController {
@@ -15,6 +21,34 @@ public class BaseController {
         return ResponseEntity.badRequest().body(errorMap);
     }
 
+    @ExceptionHandler(NotFoundException.class)
+    public ResponseEntity<HashMap> handleNotFoundException(NotFoundException e) {
+        HashMap<Object, Object> errorMap = new HashMap<>();
+        errorMap.put("errorMessage", e.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorMap);
+    }
+
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<HashMap> handleConflictException(ConflictException e) {
+        HashMap<Object, Object> errorMap = new HashMap<>();
+        errorMap.put("errorMessage", e.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorMap);
+    }
+
+    @ExceptionHandler(ConcurrencyFailureException.class)
+    public ResponseEntity<HashMap> handleConcurrencyFailureException(ConcurrencyFailureException e) {
+        HashMap<Object, Object> errorMap = new HashMap<>();
+        errorMap.put("errorMessage", "다른 요청이 먼저 변경하였습니다. 다시 시도해 주세요.");
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorMap);
+    }
+
+    @ExceptionHandler({TaskRejectedException.class, AsyncRequestTimeoutException.class})
+    public ResponseEntity<HashMap> handleUnavailableException(Exception e) {
+        HashMap<Object, Object> errorMap = new HashMap<>();
+        errorMap.put("errorMessage", "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해 주세요.");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorMap);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<HashMap> handleException(Exception e) {
         HashMap<Object, Object> errorMap = new HashMap<>();
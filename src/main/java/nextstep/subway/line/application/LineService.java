@@ -1,56 +1,153 @@
 package nextstep.subway.line.application;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import nextstep.subway.common.application.ResourceVersions;
+import nextstep.subway.common.config.CacheConfig;
+import nextstep.subway.common.config.MetricsConfig;
+import nextstep.subway.common.exception.NotFoundException;
 import nextstep.subway.line.domain.Line;
+import nextstep.subway.line.domain.LineChangedEvent;
 import nextstep.subway.line.domain.LineRepository;
+import nextstep.subway.station.application.StationResolver;
 import nextstep.subway.station.domain.Station;
-import nextstep.subway.station.domain.StationRepository;
+import nextstep.subway.line.dto.LineImportRequest;
 import nextstep.subway.line.dto.LineRequest;
 import nextstep.subway.line.dto.LineResponse;
+import nextstep.subway.line.dto.LineSummaryResponse;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @Transactional(readOnly = true)
 public class LineService {
+    private static final int EXPORT_WINDOW_SIZE = 50;
+
     private LineRepository lineRepository;
-    private StationRepository stationRepository;
+    private StationResolver stationResolver;
+    private ApplicationEventPublisher eventPublisher;
+    private EntityManager entityManager;
+    private ObjectMapper objectMapper;
+    private ResourceVersions resourceVersions;
 
-    public LineService(LineRepository lineRepository, StationRepository stationRepository) {
+    public LineService(LineRepository lineRepository, StationResolver stationResolver,
+                       ApplicationEventPublisher eventPublisher, EntityManager entityManager,
+                       ObjectMapper objectMapper, ResourceVersions resourceVersions) {
         this.lineRepository = lineRepository;
-        this.stationRepository = stationRepository;
+        this.stationResolver = stationResolver;
+        this.eventPublisher = eventPublisher;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.resourceVersions = resourceVersions;
     }
 
     @Transactional
+    @Timed(MetricsConfig.SERVICE_TIMER)
     public LineResponse saveLine(LineRequest lineRequest) {
-        Station upStation = stationRepository.findById(lineRequest.getUpStationId()).get();
-        Station downStation = stationRepository.findById(lineRequest.getDownStationId()).get();
+        Map<Long, Station> stations = stationResolver.resolve(lineRequest.getUpStationId(), lineRequest.getDownStationId());
+        Station upStation = stations.get(lineRequest.getUpStationId());
+        Station downStation = stations.get(lineRequest.getDownStationId());
 
         Line savedLine = lineRepository.save(lineRequest.toLine(upStation, downStation));
+        eventPublisher.publishEvent(new LineChangedEvent(savedLine.getId()));
         return LineResponse.of(savedLine);
     }
 
+    @Transactional
+    @Timed(MetricsConfig.SERVICE_TIMER)
+    public LineResponse importLine(LineImportRequest lineImportRequest) {
+        lineImportRequest.validate();
+        Map<Long, Station> stations = stationResolver.resolveAll(lineImportRequest.getStationIds());
+
+        Line savedLine = lineRepository.save(lineImportRequest.toLine(stations));
+        eventPublisher.publishEvent(new LineChangedEvent(savedLine.getId()));
+        return LineResponse.of(savedLine);
+    }
+
+    /**
+     * 캐시에 있으면 커넥션을 잡지 않도록 트랜잭션 없이 시작하고, 없을 때만 저장소 조회가 읽기 트랜잭션을 엽니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Timed(MetricsConfig.SERVICE_TIMER)
     public List<LineResponse> findAllLines() {
-        List<Line> lines = lineRepository.findAll();
+        return resourceVersions.getOrLoadLines(CacheConfig.LINES, SimpleKey.EMPTY, () -> {
+            List<Line> lines = lineRepository.findAllWithStations();
 
-        return lines.stream()
-                .map(line -> LineResponse.of(line))
-                .collect(Collectors.toList());
+            return lines.stream()
+                    .map(line -> LineResponse.of(line))
+                    .collect(Collectors.toList());
+        });
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Timed(MetricsConfig.SERVICE_TIMER)
     public LineResponse findLine(Long id) {
-        return LineResponse.of(lineRepository.findById(id).get());
+        return resourceVersions.getOrLoadLines(CacheConfig.LINE, id,
+                () -> LineResponse.of(lineRepository.findWithStationsById(id).orElseThrow(() -> lineNotFound(id))));
+    }
+
+    /**
+     * 조건부 조회가 ETag 만 보고 304 를 돌려주기 전에 노선이 아직 있는지 확인합니다. 2차 캐시에서 찾으므로 대개 쿼리가 나가지 않습니다.
+     */
+    public void validateLineExists(Long id) {
+        if (!lineRepository.findById(id).isPresent()) {
+            throw lineNotFound(id);
+        }
+    }
+
+    @Timed(MetricsConfig.SERVICE_TIMER)
+    public List<LineSummaryResponse> findLinesByStationId(Long stationId) {
+        return lineRepository.findSummariesByStationId(stationId);
+    }
+
+    /**
+     * 노선 id 를 EXPORT_WINDOW_SIZE 개씩 끊어 읽고, 구간과 역을 fetch join 으로 한 번에 가져와 JSON 배열로 바로 씁니다.
+     * 노선마다가 아니라 묶음마다 두 번만 쿼리하고, 묶음마다 영속성 컨텍스트를 비워 노선 수와 관계없이 메모리 사용량을 일정하게 유지합니다.
+     */
+    @Timed(MetricsConfig.SERVICE_TIMER)
+    public void exportLines(OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.writeStartArray();
+            List<Long> ids = lineRepository.findIdsAfter(0L, PageRequest.of(0, EXPORT_WINDOW_SIZE));
+            while (!ids.isEmpty()) {
+                for (Line line : lineRepository.findAllWithStationsByIdIn(ids)) {
+                    generator.writeObject(LineResponse.of(line));
+                }
+                generator.flush();
+                entityManager.clear();
+                ids = lineRepository.findIdsAfter(ids.get(ids.size() - 1), PageRequest.of(0, EXPORT_WINDOW_SIZE));
+            }
+            generator.writeEndArray();
+        }
     }
 
     @Transactional
+    @Timed(MetricsConfig.SERVICE_TIMER)
     public void updateLine(Long id, LineRequest lineRequest) throws RuntimeException {
         Line line = lineRepository.findById(id).orElseThrow(() -> new RuntimeException("지하철 노선이 존재하지 않습니다.")); // TODO: error messge 추출
         line.updateInfo(line.of(lineRequest));
+        eventPublisher.publishEvent(new LineChangedEvent(id));
     }
 
     @Transactional
+    @Timed(MetricsConfig.SERVICE_TIMER)
     public void deleteLine(Long id) {
         lineRepository.deleteById(id);
+        eventPublisher.publishEvent(new LineChangedEvent(id));
+    }
+
+    private NotFoundException lineNotFound(Long id) {
+        return new NotFoundException("지하철 노선이 존재하지 않습니다. " + id);
     }
 }
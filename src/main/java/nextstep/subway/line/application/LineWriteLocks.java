@@ -0,0 +1,98 @@
+package nextstep.subway.line.application;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노선 id 로 나눈 공정(fair) 락으로 같은 노선에 대한 쓰기를 도착 순서대로 하나씩 실행합니다.
+ * 트랜잭션을 시작하기 전에 락을 잡고 커밋한 뒤에 놓으므로 대기하는 동안 DB 락이나 커넥션을 잡고 있지 않습니다.
+ * 다른 노선은 다른 락에 걸리는 한 동시에 쓸 수 있습니다. 락마다 대기 중인 요청 수를 subway.line.write.queue 로 기록합니다.
+ * 락 밖에서 같은 노선을 바꾼 쓰기(다른 인스턴스 등)와 낙관적 락이 충돌하면 RetryConfig 의 정책으로 트랜잭션을 다시 실행합니다.
+ * 시도마다 락을 놓고 물러났다가 다시 잡으므로, 기다리는 동안 같은 락에 걸리는 다른 노선의 쓰기를 막지 않습니다. 다시 잡을 때는 대기열의 뒤에 섭니다.
+ */
+@Component
+public class LineWriteLocks {
+    private final ReentrantLock[] stripes;
+    private final RetryTemplate retryTemplate;
+
+    public LineWriteLocks(@Value("${subway.line-write.stripes:16}") int stripeCount, MeterRegistry meterRegistry,
+                          RetryTemplate concurrencyRetryTemplate) {
+        this.retryTemplate = concurrencyRetryTemplate;
+        stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock(true);
+            Gauge.builder("subway.line.write.queue", stripes[i], ReentrantLock::getQueueLength)
+                    .tag("stripe", String.valueOf(i))
+                    .register(meterRegistry);
+        }
+    }
+
+    public <T> T execute(Long lineId, Supplier<T> write) {
+        ReentrantLock lock = stripeOf(lineId);
+        return retryTemplate.execute(context -> {
+            lock.lock();
+            try {
+                return write.get();
+            } finally {
+                lock.unlock();
+            }
+        });
+    }
+
+    public void execute(Long lineId, Runnable write) {
+        execute(lineId, () -> {
+            write.run();
+            return null;
+        });
+    }
+
+    /**
+     * 여러 노선을 한 번에 쓸 때 씁니다. 교착을 막기 위해 락을 번호 순서대로 잡고 역순으로 놓습니다.
+     */
+    public <T> T executeAll(Collection<Long> lineIds, Supplier<T> write) {
+        SortedSet<Integer> indexes = new TreeSet<>();
+        lineIds.forEach(lineId -> indexes.add(stripeIndexOf(lineId)));
+        Integer[] ordered = indexes.toArray(new Integer[0]);
+        return retryTemplate.execute(context -> executeLocked(ordered, write));
+    }
+
+    public void executeAll(Collection<Long> lineIds, Runnable write) {
+        executeAll(lineIds, () -> {
+            write.run();
+            return null;
+        });
+    }
+
+    private <T> T executeLocked(Integer[] ordered, Supplier<T> write) {
+        int locked = 0;
+        try {
+            for (Integer index : ordered) {
+                stripes[index].lock();
+                locked++;
+            }
+            return write.get();
+        } finally {
+            for (int i = locked - 1; i >= 0; i--) {
+                stripes[ordered[i]].unlock();
+            }
+        }
+    }
+
+    private ReentrantLock stripeOf(Long lineId) {
+        return stripes[stripeIndexOf(lineId)];
+    }
+
+    private int stripeIndexOf(Long lineId) {
+        int hash = lineId.hashCode();
+        hash ^= (hash >>> 16);
+        return Math.floorMod(hash, stripes.length);
+    }
+}
@@ -1,5 +1,6 @@
 package nextstep.subway.line.domain;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import javax.persistence.Column;
 import javax.persistence.Embedded;
@@ -7,13 +8,17 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Version;
 import nextstep.subway.common.domain.BaseEntity;
 import nextstep.subway.section.domain.Section;
 import nextstep.subway.section.domain.Sections;
 import nextstep.subway.station.domain.Station;
 import nextstep.subway.line.dto.LineRequest;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Line extends BaseEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -25,6 +30,8 @@ public class Line extends BaseEntity {
     private String color;
     @Embedded
     private Sections sections = Sections.create();
+    @Version
+    private Long version;
 
     protected Line() {
     }
@@ -39,10 +46,34 @@ public class Line extends BaseEntity {
         section.addLine(this);
     }
 
+    public void addSections(List<Section> chain) {
+        sections.addAll(chain);
+        chain.forEach(section -> section.addLine(this));
+    }
+
+    public void removeStation(Long stationId) {
+        sections.remove(stationId);
+    }
+
+    public boolean hasSingleSection() {
+        return sections.hasSingleSection();
+    }
+
     public List<Station> getStations() {
         return sections.getStations();
     }
 
+    /**
+     * 구간 변경은 노선 행을 바꾸지 않으므로 노선과 구간의 수정 시각 중 가장 늦은 시각을 노선의 수정 시각으로 봅니다.
+     */
+    public LocalDateTime getLastModifiedDate() {
+        LocalDateTime sectionsModifiedDate = sections.getLastModifiedDate();
+        if (sectionsModifiedDate == null || (getModifiedDate() != null && getModifiedDate().isAfter(sectionsModifiedDate))) {
+            return getModifiedDate();
+        }
+        return sectionsModifiedDate;
+    }
+
     public Line of(LineRequest lineRequest) {
         return new Line(lineRequest.getName(), lineRequest.getColor());
     }
@@ -0,0 +1,13 @@
+package nextstep.subway.line.domain;
+
+public class LineChangedEvent {
+    private final Long lineId;
+
+    public LineChangedEvent(Long lineId) {
+        this.lineId = lineId;
+    }
+
+    public Long getLineId() {
+        return lineId;
+    }
+}
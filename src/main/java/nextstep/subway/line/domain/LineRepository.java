@@ -1,6 +1,62 @@
 package nextstep.subway.line.domain;
 
+import java.util.List;
+import java.util.Optional;
+import javax.persistence.LockModeType;
+import nextstep.subway.line.dto.LineSummaryResponse;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface LineRepository extends JpaRepository<Line, Long> {
+    @Query("select distinct l from Line l"
+            + " left join fetch l.sections.sections s"
+            + " left join fetch s.upStation"
+            + " left join fetch s.downStation")
+    List<Line> findAllWithStations();
+
+    @Query("select distinct l from Line l"
+            + " left join fetch l.sections.sections s"
+            + " left join fetch s.upStation"
+            + " left join fetch s.downStation"
+            + " where l.id = :id")
+    Optional<Line> findWithStationsById(@Param("id") Long id);
+
+    /**
+     * 구간을 바꾸기 위해 노선을 읽습니다. 커밋할 때 노선의 버전을 올리므로 같은 노선의 구간을 동시에 바꾸면 한쪽만 성공합니다.
+     */
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("select distinct l from Line l"
+            + " left join fetch l.sections.sections s"
+            + " left join fetch s.upStation"
+            + " left join fetch s.downStation"
+            + " where l.id = :id")
+    Optional<Line> findForSectionUpdateById(@Param("id") Long id);
+
+    /**
+     * 노선마다 (line_id, up_station_id), (line_id, down_station_id) 인덱스로 역이 있는지 확인합니다.
+     */
+    @Query("select l.id from Line l"
+            + " where exists (select s.id from Section s where s.line = l and s.upStation.id = :stationId)"
+            + " or exists (select s.id from Section s where s.line = l and s.downStation.id = :stationId)")
+    List<Long> findIdsByStationId(@Param("stationId") Long stationId);
+
+    @Query("select new nextstep.subway.line.dto.LineSummaryResponse(l.id, l.name, l.color) from Line l"
+            + " where exists (select s.id from Section s where s.line = l and s.upStation.id = :stationId)"
+            + " or exists (select s.id from Section s where s.line = l and s.downStation.id = :stationId)"
+            + " order by l.id")
+    List<LineSummaryResponse> findSummariesByStationId(@Param("stationId") Long stationId);
+
+    @Query("select l.id from Line l where l.id > :after order by l.id")
+    List<Long> findIdsAfter(@Param("after") Long after, Pageable pageable);
+
+    @Query("select distinct l from Line l"
+            + " left join fetch l.sections.sections s"
+            + " left join fetch s.upStation"
+            + " left join fetch s.downStation"
+            + " where l.id in :ids"
+            + " order by l.id")
+    List<Line> findAllWithStationsByIdIn(@Param("ids") List<Long> ids);
 }
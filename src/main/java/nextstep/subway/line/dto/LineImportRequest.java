@@ -0,0 +1,61 @@
+package nextstep.subway.line.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.section.domain.Section;
+import nextstep.subway.station.domain.Station;
+
+public class LineImportRequest {
+    private String name;
+    private String color;
+    private List<Long> stationIds;
+    private List<Integer> distances;
+
+    protected LineImportRequest() {
+    }
+
+    public LineImportRequest(String name, String color, List<Long> stationIds, List<Integer> distances) {
+        this.name = name;
+        this.color = color;
+        this.stationIds = stationIds;
+        this.distances = distances;
+    }
+
+    public void validate() {
+        if (stationIds == null || stationIds.size() < 2) {
+            throw new IllegalArgumentException("노선에는 2개 이상의 역이 필요합니다.");
+        }
+        if (distances == null || distances.size() != stationIds.size() - 1) {
+            throw new IllegalArgumentException("역 사이 거리의 수는 역의 수보다 하나 적어야 합니다.");
+        }
+    }
+
+    public Line toLine(Map<Long, Station> stations) {
+        List<Section> chain = new ArrayList<>(distances.size());
+        for (int i = 0; i < distances.size(); i++) {
+            chain.add(new Section(stations.get(stationIds.get(i)), stations.get(stationIds.get(i + 1)), distances.get(i)));
+        }
+
+        Line line = new Line(name, color);
+        line.addSections(chain);
+        return line;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getColor() {
+        return color;
+    }
+
+    public List<Long> getStationIds() {
+        return stationIds;
+    }
+
+    public List<Integer> getDistances() {
+        return distances;
+    }
+}
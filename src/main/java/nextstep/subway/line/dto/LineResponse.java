@@ -1,5 +1,6 @@
 package nextstep.subway.line.dto;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 import nextstep.subway.line.domain.Line;
@@ -11,17 +12,22 @@ public class LineResponse {
     private String name;
     private String color;
     private List<StationResponse> stations;
+    private LocalDateTime createdDate;
+    private LocalDateTime modifiedDate;
 
     public LineResponse() {
     }
 
-    public LineResponse(Long id, String name, String color, List<Station> stations) {
+    public LineResponse(Long id, String name, String color, List<Station> stations,
+                        LocalDateTime createdDate, LocalDateTime modifiedDate) {
         this.id = id;
         this.name = name;
         this.color = color;
         this.stations = stations.stream()
                 .map(StationResponse::of)
                 .collect(Collectors.toList());
+        this.createdDate = createdDate;
+        this.modifiedDate = modifiedDate;
     }
 
     public static LineResponse of(Line line) {
@@ -29,7 +35,9 @@ public class LineResponse {
                 line.getId(),
                 line.getName(),
                 line.getColor(),
-                line.getStations()
+                line.getStations(),
+                line.getCreatedDate(),
+                line.getLastModifiedDate()
         );
     }
 
@@ -48,4 +56,12 @@ public class LineResponse {
     public List<StationResponse> getStations() {
         return stations;
     }
+
+    public LocalDateTime getCreatedDate() {
+        return createdDate;
+    }
+
+    public LocalDateTime getModifiedDate() {
+        return modifiedDate;
+    }
 }
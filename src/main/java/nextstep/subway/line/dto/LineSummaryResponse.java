@@ -0,0 +1,28 @@
+package nextstep.subway.line.dto;
+
+public class LineSummaryResponse {
+    private Long id;
+    private String name;
+    private String color;
+
+    public LineSummaryResponse() {
+    }
+
+    public LineSummaryResponse(Long id, String name, String color) {
+        this.id = id;
+        this.name = name;
+        this.color = color;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getColor() {
+        return color;
+    }
+}
@@ -1,11 +1,20 @@
 package nextstep.subway.line.ui;
 
+import java.io.IOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
 import java.util.List;
+import javax.servlet.http.HttpServletResponse;
+import nextstep.subway.common.application.ResourceVersions;
 import nextstep.subway.line.application.LineService;
+import nextstep.subway.line.application.LineWriteLocks;
+import nextstep.subway.line.dto.LineImportRequest;
 import nextstep.subway.line.dto.LineRequest;
 import nextstep.subway.line.dto.LineResponse;
 import nextstep.subway.common.ui.BaseController;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -15,14 +24,19 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/lines")
 public class LineController extends BaseController {
     private LineService lineService;
+    private ResourceVersions resourceVersions;
+    private LineWriteLocks lineWriteLocks;
 
-    public LineController(LineService lineService) {
+    public LineController(LineService lineService, ResourceVersions resourceVersions, LineWriteLocks lineWriteLocks) {
         this.lineService = lineService;
+        this.resourceVersions = resourceVersions;
+        this.lineWriteLocks = lineWriteLocks;
     }
 
     @PostMapping
@@ -31,20 +45,48 @@ public class LineController extends BaseController {
         return ResponseEntity.created(URI.create("lines/" + line.getId())).body(line);
     }
 
+    @PostMapping("/import")
+    public ResponseEntity<LineResponse> importLine(@RequestBody LineImportRequest lineImportRequest) {
+        LineResponse line = lineService.importLine(lineImportRequest);
+        return ResponseEntity.created(URI.create("lines/" + line.getId())).body(line);
+    }
+
     @GetMapping
-    public ResponseEntity<List<LineResponse>> showLines() {
-        return ResponseEntity.ok().body(lineService.findAllLines());
+    public ResponseEntity<List<LineResponse>> showLines(WebRequest request) {
+        String eTag = resourceVersions.lineETag();
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(lineService.findAllLines());
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_JSON_VALUE)
+    public void exportLines(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        lineService.exportLines(response.getOutputStream());
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<LineResponse> showLine(@PathVariable Long id) {
-        return ResponseEntity.ok().body(lineService.findLine(id));
+    public ResponseEntity<LineResponse> showLine(@PathVariable Long id, WebRequest request) {
+        String eTag = resourceVersions.lineETag();
+        lineService.validateLineExists(id);
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
+        LineResponse line = lineService.findLine(id);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(eTag);
+        if (line.getModifiedDate() != null) {
+            response.lastModified(line.getModifiedDate().atZone(ZoneId.systemDefault()));
+        }
+        return response.body(line);
     }
 
     @PatchMapping("/{id}")
     public ResponseEntity<LineResponse> updateLine(@PathVariable Long id, @RequestBody LineRequest lineRequest)
             throws RuntimeException {
-        lineService.updateLine(id, lineRequest);
+        lineWriteLocks.execute(id, () -> lineService.updateLine(id, lineRequest));
         return ResponseEntity.ok().build();
     }
 
@@ -0,0 +1,26 @@
+package nextstep.subway.line.ui;
+
+import java.util.List;
+import nextstep.subway.common.ui.BaseController;
+import nextstep.subway.line.application.LineService;
+import nextstep.subway.line.dto.LineSummaryResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/stations")
+public class StationLineController extends BaseController {
+    private LineService lineService;
+
+    public StationLineController(LineService lineService) {
+        this.lineService = lineService;
+    }
+
+    @GetMapping("/{stationId}/lines")
+    public ResponseEntity<List<LineSummaryResponse>> showLinesOfStation(@PathVariable Long stationId) {
+        return ResponseEntity.ok().body(lineService.findLinesByStationId(stationId));
+    }
+}
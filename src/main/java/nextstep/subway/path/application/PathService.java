@@ -0,0 +1,93 @@
+package nextstep.subway.path.application;
+
+import io.micrometer.core.annotation.Timed;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import nextstep.subway.common.config.MetricsConfig;
+import nextstep.subway.line.domain.LineChangedEvent;
+import nextstep.subway.path.domain.Path;
+import nextstep.subway.path.domain.PathFinder;
+import nextstep.subway.path.domain.PathGraph;
+import nextstep.subway.path.domain.PathMode;
+import nextstep.subway.path.dto.PathResponse;
+import nextstep.subway.section.domain.SectionRepository;
+import nextstep.subway.station.domain.Station;
+import nextstep.subway.station.domain.StationRepository;
+import nextstep.subway.station.dto.StationResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Service
+@Transactional(readOnly = true)
+public class PathService {
+    private static final Logger log = LoggerFactory.getLogger(PathService.class);
+
+    private SectionRepository sectionRepository;
+    private StationRepository stationRepository;
+    private PathMode mode;
+
+    private final AtomicLong networkVersion = new AtomicLong();
+    private volatile PathFinder finder;
+
+    public PathService(SectionRepository sectionRepository, StationRepository stationRepository,
+                       @Value("${subway.path.mode:dijkstra}") PathMode mode) {
+        this.sectionRepository = sectionRepository;
+        this.stationRepository = stationRepository;
+        this.mode = mode;
+    }
+
+    @Timed(MetricsConfig.SERVICE_TIMER)
+    public PathResponse findPath(Long source, Long target) {
+        Path path = getFinder().findShortestPath(source, target);
+
+        Map<Long, Station> stations = stationRepository.findAllById(path.getStationIds()).stream()
+                .collect(Collectors.toMap(Station::getId, Function.identity()));
+        List<StationResponse> stationResponses = path.getStationIds().stream()
+                .map(stationId -> StationResponse.of(stations.get(stationId)))
+                .collect(Collectors.toList());
+        return new PathResponse(stationResponses, path.getDistance());
+    }
+
+    /**
+     * 미리 계산하는 모드에서는 경로 조회가 아니라 노선을 바꾼 요청이 재계산 비용을 치르도록 커밋 직후 바로 다시 만듭니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void invalidate(LineChangedEvent event) {
+        networkVersion.incrementAndGet();
+        finder = null;
+        if (mode.isPrecomputed()) {
+            getFinder();
+        }
+    }
+
+    private PathFinder getFinder() {
+        PathFinder current = finder;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (finder != null) {
+                return finder;
+            }
+            long version = networkVersion.get();
+            long startedAt = System.nanoTime();
+            PathFinder built = mode.createFinder(PathGraph.of(sectionRepository.findAllEdges()));
+            log.info("경로 탐색 구조 생성 (mode={}, stations={}, bytes={}, elapsedMs={})",
+                    mode, built.getStationCount(), built.getFootprintBytes(), (System.nanoTime() - startedAt) / 1_000_000);
+            // 만드는 사이에 노선이 바뀌었다면 다음 조회에서 다시 만들도록 캐시하지 않습니다.
+            if (networkVersion.get() == version) {
+                finder = built;
+            }
+            return built;
+        }
+    }
+}
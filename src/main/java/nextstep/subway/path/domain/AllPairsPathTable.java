@@ -0,0 +1,97 @@
+package nextstep.subway.path.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 플로이드-워셜로 미리 계산한 모든 역 쌍의 최단 거리와 다음 역 표입니다.
+ * 역이 n개일 때 int[n * n] 배열 두 개를 사용하므로 약 8 * n^2 bytes 를 차지합니다.
+ */
+public class AllPairsPathTable implements PathFinder {
+    private static final int UNREACHABLE = Integer.MAX_VALUE / 2;
+    private static final int NO_VERTEX = -1;
+
+    private final PathGraph graph;
+    private final int vertexCount;
+    private final int[] distances;
+    private final int[] nextHops;
+
+    private AllPairsPathTable(PathGraph graph, int[] distances, int[] nextHops) {
+        this.graph = graph;
+        this.vertexCount = graph.getStationCount();
+        this.distances = distances;
+        this.nextHops = nextHops;
+    }
+
+    public static AllPairsPathTable of(PathGraph graph) {
+        int n = graph.getStationCount();
+        int[] distances = new int[n * n];
+        int[] nextHops = new int[n * n];
+        Arrays.fill(distances, UNREACHABLE);
+        Arrays.fill(nextHops, NO_VERTEX);
+
+        for (int from = 0; from < n; from++) {
+            distances[from * n + from] = 0;
+            nextHops[from * n + from] = from;
+            for (int edge = graph.firstEdge(from); edge < graph.firstEdge(from + 1); edge++) {
+                int to = graph.edgeTarget(edge);
+                if (graph.edgeDistance(edge) < distances[from * n + to]) {
+                    distances[from * n + to] = graph.edgeDistance(edge);
+                    nextHops[from * n + to] = to;
+                }
+            }
+        }
+
+        for (int via = 0; via < n; via++) {
+            for (int from = 0; from < n; from++) {
+                int fromVia = distances[from * n + via];
+                if (fromVia == UNREACHABLE) {
+                    continue;
+                }
+                for (int to = 0; to < n; to++) {
+                    int candidate = fromVia + distances[via * n + to];
+                    if (candidate < distances[from * n + to]) {
+                        distances[from * n + to] = candidate;
+                        nextHops[from * n + to] = nextHops[from * n + via];
+                    }
+                }
+            }
+        }
+        return new AllPairsPathTable(graph, distances, nextHops);
+    }
+
+    public static long estimateFootprintBytes(int stationCount) {
+        return 2L * Integer.BYTES * stationCount * stationCount;
+    }
+
+    @Override
+    public Path findShortestPath(Long sourceStationId, Long targetStationId) {
+        if (sourceStationId.equals(targetStationId)) {
+            throw new IllegalArgumentException("출발역과 도착역이 같습니다.");
+        }
+        int source = graph.vertexOf(sourceStationId);
+        int target = graph.vertexOf(targetStationId);
+        if (nextHops[source * vertexCount + target] == NO_VERTEX) {
+            throw new IllegalArgumentException("출발역과 도착역이 연결되어 있지 않습니다.");
+        }
+
+        List<Long> stationIds = new ArrayList<>();
+        stationIds.add(graph.stationIdOf(source));
+        for (int vertex = source; vertex != target; ) {
+            vertex = nextHops[vertex * vertexCount + target];
+            stationIds.add(graph.stationIdOf(vertex));
+        }
+        return new Path(stationIds, distances[source * vertexCount + target]);
+    }
+
+    @Override
+    public int getStationCount() {
+        return vertexCount;
+    }
+
+    @Override
+    public long getFootprintBytes() {
+        return estimateFootprintBytes(vertexCount) + graph.getFootprintBytes();
+    }
+}
@@ -0,0 +1,9 @@
+package nextstep.subway.path.domain;
+
+public interface PathFinder {
+    Path findShortestPath(Long sourceStationId, Long targetStationId);
+
+    int getStationCount();
+
+    long getFootprintBytes();
+}
@@ -0,0 +1,169 @@
+package nextstep.subway.path.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import nextstep.subway.section.domain.SectionEdge;
+
+/**
+ * 구간 정보로 만든 역 간 인접 그래프입니다.
+ * 역 id 를 0부터 시작하는 정점 번호로 바꾸고, 간선은 정점별로 연속된 배열(CSR)에 담습니다.
+ */
+public class PathGraph implements PathFinder {
+    private static final int NO_VERTEX = -1;
+
+    private final Map<Long, Integer> vertexByStationId;
+    private final long[] stationIds;
+    private final int[] edgeOffsets;
+    private final int[] edgeTargets;
+    private final int[] edgeDistances;
+
+    private PathGraph(Map<Long, Integer> vertexByStationId, long[] stationIds,
+                      int[] edgeOffsets, int[] edgeTargets, int[] edgeDistances) {
+        this.vertexByStationId = vertexByStationId;
+        this.stationIds = stationIds;
+        this.edgeOffsets = edgeOffsets;
+        this.edgeTargets = edgeTargets;
+        this.edgeDistances = edgeDistances;
+    }
+
+    public static PathGraph of(List<? extends SectionEdge> sections) {
+        Map<Long, Integer> vertexByStationId = new HashMap<>();
+        List<Long> stationIds = new ArrayList<>();
+        int[] ups = new int[sections.size()];
+        int[] downs = new int[sections.size()];
+        for (int i = 0; i < sections.size(); i++) {
+            ups[i] = addVertex(vertexByStationId, stationIds, sections.get(i).getUpStationId());
+            downs[i] = addVertex(vertexByStationId, stationIds, sections.get(i).getDownStationId());
+        }
+
+        int vertexCount = stationIds.size();
+        int[] edgeOffsets = new int[vertexCount + 1];
+        for (int i = 0; i < sections.size(); i++) {
+            edgeOffsets[ups[i] + 1]++;
+            edgeOffsets[downs[i] + 1]++;
+        }
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            edgeOffsets[vertex + 1] += edgeOffsets[vertex];
+        }
+
+        int[] cursors = Arrays.copyOf(edgeOffsets, vertexCount);
+        int[] edgeTargets = new int[sections.size() * 2];
+        int[] edgeDistances = new int[sections.size() * 2];
+        for (int i = 0; i < sections.size(); i++) {
+            int distance = sections.get(i).getDistance();
+            edgeTargets[cursors[ups[i]]] = downs[i];
+            edgeDistances[cursors[ups[i]]++] = distance;
+            edgeTargets[cursors[downs[i]]] = ups[i];
+            edgeDistances[cursors[downs[i]]++] = distance;
+        }
+
+        long[] stationIdArray = new long[vertexCount];
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            stationIdArray[vertex] = stationIds.get(vertex);
+        }
+        return new PathGraph(vertexByStationId, stationIdArray, edgeOffsets, edgeTargets, edgeDistances);
+    }
+
+    private static int addVertex(Map<Long, Integer> vertexByStationId, List<Long> stationIds, Long stationId) {
+        Integer vertex = vertexByStationId.get(stationId);
+        if (vertex != null) {
+            return vertex;
+        }
+        vertexByStationId.put(stationId, stationIds.size());
+        stationIds.add(stationId);
+        return stationIds.size() - 1;
+    }
+
+    @Override
+    public Path findShortestPath(Long sourceStationId, Long targetStationId) {
+        if (sourceStationId.equals(targetStationId)) {
+            throw new IllegalArgumentException("출발역과 도착역이 같습니다.");
+        }
+        int source = vertexOf(sourceStationId);
+        int target = vertexOf(targetStationId);
+
+        long[] distances = new long[stationIds.length];
+        int[] previous = new int[stationIds.length];
+        Arrays.fill(distances, Long.MAX_VALUE);
+        Arrays.fill(previous, NO_VERTEX);
+        distances[source] = 0;
+
+        // 힙 원소는 (거리 << 32 | 정점) 으로 인코딩해 정렬 순서가 거리 순서가 되도록 합니다.
+        PriorityQueue<Long> queue = new PriorityQueue<>();
+        queue.add((long) source);
+        while (!queue.isEmpty()) {
+            long entry = queue.poll();
+            int vertex = (int) entry;
+            long distance = entry >>> 32;
+            if (distance > distances[vertex]) {
+                continue;
+            }
+            if (vertex == target) {
+                break;
+            }
+            for (int edge = edgeOffsets[vertex]; edge < edgeOffsets[vertex + 1]; edge++) {
+                int next = edgeTargets[edge];
+                long nextDistance = distance + edgeDistances[edge];
+                if (nextDistance < distances[next]) {
+                    distances[next] = nextDistance;
+                    previous[next] = vertex;
+                    queue.add(nextDistance << 32 | next);
+                }
+            }
+        }
+
+        if (distances[target] == Long.MAX_VALUE) {
+            throw new IllegalArgumentException("출발역과 도착역이 연결되어 있지 않습니다.");
+        }
+        return new Path(toStationIds(previous, target), (int) distances[target]);
+    }
+
+    private List<Long> toStationIds(int[] previous, int target) {
+        List<Long> path = new ArrayList<>();
+        for (int vertex = target; vertex != NO_VERTEX; vertex = previous[vertex]) {
+            path.add(stationIds[vertex]);
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    int vertexOf(Long stationId) {
+        Integer vertex = vertexByStationId.get(stationId);
+        if (vertex == null) {
+            throw new IllegalArgumentException("노선에 등록되지 않은 역입니다.");
+        }
+        return vertex;
+    }
+
+    long stationIdOf(int vertex) {
+        return stationIds[vertex];
+    }
+
+    int firstEdge(int vertex) {
+        return edgeOffsets[vertex];
+    }
+
+    int edgeTarget(int edge) {
+        return edgeTargets[edge];
+    }
+
+    int edgeDistance(int edge) {
+        return edgeDistances[edge];
+    }
+
+    @Override
+    public int getStationCount() {
+        return stationIds.length;
+    }
+
+    @Override
+    public long getFootprintBytes() {
+        return (long) Long.BYTES * stationIds.length
+                + (long) Integer.BYTES * (edgeOffsets.length + edgeTargets.length + edgeDistances.length);
+    }
+}
@@ -0,0 +1,28 @@
+package nextstep.subway.path.domain;
+
+public enum PathMode {
+    /**
+     * 조회할 때마다 인접 그래프에서 다익스트라로 경로를 찾습니다.
+     */
+    DIJKSTRA {
+        @Override
+        public PathFinder createFinder(PathGraph graph) {
+            return graph;
+        }
+    },
+    /**
+     * 구간이 바뀔 때 모든 역 쌍의 거리와 다음 역을 미리 계산해두고 배열을 따라가며 경로를 찾습니다.
+     */
+    ALL_PAIRS {
+        @Override
+        public PathFinder createFinder(PathGraph graph) {
+            return AllPairsPathTable.of(graph);
+        }
+    };
+
+    public abstract PathFinder createFinder(PathGraph graph);
+
+    public boolean isPrecomputed() {
+        return this == ALL_PAIRS;
+    }
+}
@@ -0,0 +1,25 @@
+package nextstep.subway.path.ui;
+
+import nextstep.subway.common.ui.BaseController;
+import nextstep.subway.path.application.PathService;
+import nextstep.subway.path.dto.PathResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/paths")
+public class PathController extends BaseController {
+    private PathService pathService;
+
+    public PathController(PathService pathService) {
+        this.pathService = pathService;
+    }
+
+    @GetMapping
+    public ResponseEntity<PathResponse> findPath(@RequestParam Long source, @RequestParam Long target) {
+        return ResponseEntity.ok().body(pathService.findPath(source, target));
+    }
+}
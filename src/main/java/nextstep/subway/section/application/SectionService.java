@@ -1,11 +1,17 @@
 package nextstep.subway.section.application;
 
+import io.micrometer.core.annotation.Timed;
+import java.util.Map;
+import nextstep.subway.common.config.MetricsConfig;
+import nextstep.subway.common.exception.NotFoundException;
 import nextstep.subway.line.domain.Line;
+import nextstep.subway.line.domain.LineChangedEvent;
 import nextstep.subway.line.domain.LineRepository;
+import nextstep.subway.station.application.StationResolver;
 import nextstep.subway.station.domain.Station;
-import nextstep.subway.station.domain.StationRepository;
 import nextstep.subway.line.dto.LineResponse;
 import nextstep.subway.section.dto.SectionRequest;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,21 +19,38 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class SectionService {
     private LineRepository lineRepository;
-    private StationRepository stationRepository;
+    private StationResolver stationResolver;
+    private ApplicationEventPublisher eventPublisher;
 
-    public SectionService(LineRepository lineRepository, StationRepository stationRepository) {
+    public SectionService(LineRepository lineRepository, StationResolver stationResolver,
+                          ApplicationEventPublisher eventPublisher) {
         this.lineRepository = lineRepository;
-        this.stationRepository = stationRepository;
+        this.stationResolver = stationResolver;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
+    @Timed(MetricsConfig.SERVICE_TIMER)
     public LineResponse addSection(Long lineId, SectionRequest sectionRequest) {
-        Line line = lineRepository.findById(lineId).orElseThrow(() -> new RuntimeException("지하철 노선이 존재하지 않습니다."));
-        Station upStation = stationRepository.findById(sectionRequest.getUpStationId()).get(); // TODO: optional 사용 어떻게 하는게 좋은 코드인지?
-        Station downStation = stationRepository.findById(sectionRequest.getDownStationId()).get();
+        Line line = lineRepository.findForSectionUpdateById(lineId)
+                .orElseThrow(() -> new NotFoundException("지하철 노선이 존재하지 않습니다. " + lineId));
+        Map<Long, Station> stations = stationResolver.resolve(sectionRequest.getUpStationId(), sectionRequest.getDownStationId());
+        Station upStation = stations.get(sectionRequest.getUpStationId());
+        Station downStation = stations.get(sectionRequest.getDownStationId());
 
         line.addSection(sectionRequest.toSection(upStation, downStation));
         lineRepository.save(line);
+        eventPublisher.publishEvent(new LineChangedEvent(lineId));
         return LineResponse.of(line);
     }
+
+    @Transactional
+    @Timed(MetricsConfig.SERVICE_TIMER)
+    public void removeSection(Long lineId, Long stationId) {
+        Line line = lineRepository.findForSectionUpdateById(lineId)
+                .orElseThrow(() -> new NotFoundException("지하철 노선이 존재하지 않습니다. " + lineId));
+
+        line.removeStation(stationId);
+        eventPublisher.publishEvent(new LineChangedEvent(lineId));
+    }
 }
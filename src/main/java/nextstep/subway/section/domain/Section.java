@@ -8,16 +8,29 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
 import nextstep.subway.common.domain.BaseEntity;
 import nextstep.subway.station.domain.Station;
 import nextstep.subway.line.domain.Line;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "ix_section_line_up_station", columnList = "line_id, up_station_id"),
+        @Index(name = "ix_section_line_down_station", columnList = "line_id, down_station_id"),
+        @Index(name = "ix_section_up_station", columnList = "up_station_id"),
+        @Index(name = "ix_section_down_station", columnList = "down_station_id")
+})
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Section extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "section_seq_generator")
+    @SequenceGenerator(name = "section_seq_generator", sequenceName = "section_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
     @ManyToOne
@@ -55,8 +68,24 @@ public class Section extends BaseEntity {
         return id;
     }
 
+    public Station getUpStation() {
+        return upStation;
+    }
+
+    public Station getDownStation() {
+        return downStation;
+    }
+
+    public Long getUpStationId() {
+        return upStation.getId();
+    }
+
+    public Long getDownStationId() {
+        return downStation.getId();
+    }
+
     public void update(Section newSection) {
-        if(distance <= newSection.distance){
+        if (distance <= newSection.distance) {
             throw new IllegalArgumentException("추가하는 노선의 길이는 기존 역 사이의 길이보다 크거나 같을 수 없습니다.");
         }
         if (isEqualUpStation(newSection)) {
@@ -67,8 +96,13 @@ public class Section extends BaseEntity {
         }
     }
 
+    public void merge(Section downSection) {
+        downStation = downSection.downStation;
+        distance = distance + downSection.distance;
+    }
+
     private boolean isEqualUpStation(Section newSection) {
-        return upStation.equals(newSection.upStation);
+        return getUpStationId().equals(newSection.getUpStationId());
     }
 
     private void updateUpStation(Section newSection) {
@@ -77,7 +111,7 @@ public class Section extends BaseEntity {
     }
 
     private boolean isEqualDownStation(Section newSection) {
-        return downStation.equals(newSection.downStation);
+        return getDownStationId().equals(newSection.getDownStationId());
     }
 
     private void updateDownStation(Section newSection) {
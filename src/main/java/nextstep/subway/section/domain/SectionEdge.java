@@ -0,0 +1,9 @@
+package nextstep.subway.section.domain;
+
+public interface SectionEdge {
+    Long getUpStationId();
+
+    Long getDownStationId();
+
+    int getDistance();
+}
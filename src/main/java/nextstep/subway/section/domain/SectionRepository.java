@@ -0,0 +1,16 @@
+package nextstep.subway.section.domain;
+
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+public interface SectionRepository extends JpaRepository<Section, Long> {
+    @Query("select s.upStation.id as upStationId, s.downStation.id as downStationId, s.distance as distance"
+            + " from Section s")
+    List<SectionEdge> findAllEdges();
+
+    // 상행역, 하행역 조건을 OR 로 묶으면 H2 가 인덱스를 쓰지 못하므로 각각의 인덱스로 따로 확인합니다.
+    boolean existsByUpStation_Id(Long stationId);
+
+    boolean existsByDownStation_Id(Long stationId);
+}
@@ -1,20 +1,34 @@
 package nextstep.subway.section.domain;
 
 import com.google.common.collect.Lists;
-import java.util.Collection;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
 import javax.persistence.CascadeType;
 import javax.persistence.Embeddable;
 import javax.persistence.OneToMany;
+import javax.persistence.Transient;
 import nextstep.subway.station.domain.Station;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Embeddable
 public class Sections {
-    @OneToMany(mappedBy = "line", cascade = CascadeType.ALL)
+    @OneToMany(mappedBy = "line", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     private List<Section> sections = Lists.newArrayList();
 
+    // 역 id 로 그 역에서 시작하는/끝나는 구간을 찾는 인덱스입니다. 처음 쓸 때 한 번 만들고 구간을 바꿀 때마다 함께 고칩니다.
+    @Transient
+    private Map<Long, Section> sectionsByUpStationId;
+    @Transient
+    private Map<Long, Section> sectionsByDownStationId;
+
     protected Sections() {
     }
 
@@ -23,48 +37,172 @@ public class Sections {
     }
 
     public List<Station> getStations() {
-        return sections.stream()
-                .map(Section::findStations)
-                .flatMap(Collection::stream)
-                .distinct()
-                .collect(Collectors.toList());
+        if (sections.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        buildIndexIfAbsent();
+        Section section = findFirstSection();
+        List<Station> stations = new ArrayList<>(sections.size() + 1);
+        stations.add(section.getUpStation());
+        while (section != null && stations.size() <= sections.size()) {
+            stations.add(section.getDownStation());
+            section = sectionsByUpStationId.get(section.getDownStationId());
+        }
+        return stations;
     }
+
+    public LocalDateTime getLastModifiedDate() {
+        LocalDateTime lastModifiedDate = null;
+        for (Section section : sections) {
+            LocalDateTime modifiedDate = section.getModifiedDate();
+            if (modifiedDate != null && (lastModifiedDate == null || modifiedDate.isAfter(lastModifiedDate))) {
+                lastModifiedDate = modifiedDate;
+            }
+        }
+        return lastModifiedDate;
+    }
+
     public static Sections create() {
         return new Sections();
     }
 
+    /**
+     * 상행 종점부터 순서대로 이어진 구간들을 빈 노선에 한 번에 등록합니다.
+     * 구간마다 add 를 호출하면 매번 인덱스를 다시 만들어야 하므로 연결 여부와 역 중복만 한 번에 확인합니다.
+     */
+    public void addAll(List<Section> chain) {
+        if (!sections.isEmpty()) {
+            throw new IllegalArgumentException("구간이 없는 노선에만 구간을 한 번에 등록할 수 있습니다.");
+        }
+
+        Set<Long> stationIds = new HashSet<>();
+        Section previous = null;
+        for (Section section : chain) {
+            if (previous != null && !previous.getDownStationId().equals(section.getUpStationId())) {
+                throw new IllegalArgumentException("구간이 순서대로 연결되어 있지 않습니다.");
+            }
+            if (previous == null) {
+                stationIds.add(section.getUpStationId());
+            }
+            if (!stationIds.add(section.getDownStationId())) {
+                throw new IllegalArgumentException("노선에 같은 역을 두 번 등록할 수 없습니다.");
+            }
+            previous = section;
+        }
+        sections.addAll(chain);
+        sectionsByUpStationId = null;
+        sectionsByDownStationId = null;
+    }
+
     public void add(Section newSection) {
+        buildIndexIfAbsent();
         if (sections.isEmpty()) {
             sections.add(newSection);
+            index(newSection);
             return;
         }
 
         validate(newSection);
-        sections.forEach(section -> section.update(newSection));
+
+        Section dividedSection = findDividedSection(newSection);
+        if (dividedSection != null) {
+            unindex(dividedSection);
+            dividedSection.update(newSection);
+            index(dividedSection);
+        }
         sections.add(newSection);
+        index(newSection);
+    }
+
+    public boolean hasSingleSection() {
+        return sections.size() == 1;
+    }
+
+    /**
+     * 역을 노선에서 뺍니다. 역의 앞뒤 구간은 역 id 인덱스에서 바로 찾고, 거리를 더해 하나로 합치며 종점이면 그 구간만 지웁니다.
+     * 다른 구간은 건드리지 않으므로 구간 하나의 삭제와 많아야 하나의 수정만 일어납니다.
+     * 인덱스는 읽어 온 노선마다 처음 한 번 O(n) 으로 만들어지고, 구간 목록에서 지운 구간을 빼는 일은 목록을 한 번 훑습니다.
+     */
+    public void remove(Long stationId) {
+        if (sections.size() <= 1) {
+            throw new IllegalArgumentException("구간이 하나뿐인 노선에서는 역을 제거할 수 없습니다.");
+        }
+
+        buildIndexIfAbsent();
+        Section upSection = sectionsByDownStationId.get(stationId);
+        Section downSection = sectionsByUpStationId.get(stationId);
+        if (upSection == null && downSection == null) {
+            throw new IllegalArgumentException("노선에 등록되지 않은 역입니다.");
+        }
+
+        if (upSection != null && downSection != null) {
+            unindex(upSection);
+            unindex(downSection);
+            upSection.merge(downSection);
+            index(upSection);
+            sections.remove(downSection);
+            return;
+        }
+        Section terminalSection = upSection != null ? upSection : downSection;
+        unindex(terminalSection);
+        sections.remove(terminalSection);
+    }
+
+    private void buildIndexIfAbsent() {
+        if (sectionsByUpStationId != null) {
+            return;
+        }
+        sectionsByUpStationId = new HashMap<>();
+        sectionsByDownStationId = new HashMap<>();
+        sections.forEach(this::index);
+    }
+
+    private void index(Section section) {
+        sectionsByUpStationId.put(section.getUpStationId(), section);
+        sectionsByDownStationId.put(section.getDownStationId(), section);
+    }
+
+    private void unindex(Section section) {
+        sectionsByUpStationId.remove(section.getUpStationId(), section);
+        sectionsByDownStationId.remove(section.getDownStationId(), section);
+    }
+
+    private Section findDividedSection(Section newSection) {
+        Section section = sectionsByUpStationId.get(newSection.getUpStationId());
+        if (section != null) {
+            return section;
+        }
+        return sectionsByDownStationId.get(newSection.getDownStationId());
+    }
+
+    private Section findFirstSection() {
+        return sectionsByUpStationId.values().stream()
+                .filter(section -> !sectionsByDownStationId.containsKey(section.getUpStationId()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("상행 종점역을 찾을 수 없습니다."));
     }
 
     private void validate(Section section) {
-        validateHasStations(section);
-        validateHasNotBothStations(section);
+        boolean hasUpStation = hasStation(section.getUpStationId());
+        boolean hasDownStation = hasStation(section.getDownStationId());
+        validateHasStations(hasUpStation, hasDownStation);
+        validateHasNotBothStations(hasUpStation, hasDownStation);
+    }
+
+    private boolean hasStation(Long stationId) {
+        return sectionsByUpStationId.containsKey(stationId) || sectionsByDownStationId.containsKey(stationId);
     }
 
-    private void validateHasStations(Section newSection) {
-        if (new HashSet<>(getStations()).containsAll(newSection.findStations())) {
+    private void validateHasStations(boolean hasUpStation, boolean hasDownStation) {
+        if (hasUpStation && hasDownStation) {
             throw new IllegalArgumentException("등록하려는 역이 모두 존재합니다.");
         }
     }
 
-    private void validateHasNotBothStations(Section newSection) {
-        if (hasNotBothStations(newSection)) {
+    private void validateHasNotBothStations(boolean hasUpStation, boolean hasDownStation) {
+        if (!hasUpStation && !hasDownStation) {
             throw new IllegalArgumentException("상행성과 하행선 모두 존재하지 않습니다.");
         }
     }
-
-    private boolean hasNotBothStations(Section section) {
-        List<Station> stations = getStations();
-        return section.findStations()
-                .stream()
-                .noneMatch(stations::contains);
-    }
 }
@@ -1,29 +1,40 @@
 package nextstep.subway.section.ui;
 
+import nextstep.subway.line.application.LineWriteLocks;
 import nextstep.subway.section.application.SectionService;
 import nextstep.subway.line.dto.LineResponse;
 import nextstep.subway.section.dto.SectionRequest;
 import nextstep.subway.common.ui.BaseController;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 @RequestMapping("/lines")
 public class SectionController extends BaseController {
     private SectionService sectionService;
+    private LineWriteLocks lineWriteLocks;
 
-    public SectionController(SectionService sectionService){
+    public SectionController(SectionService sectionService, LineWriteLocks lineWriteLocks){
         this.sectionService = sectionService;
+        this.lineWriteLocks = lineWriteLocks;
     }
 
     @PostMapping("/{lineId}/stations")
     public ResponseEntity<LineResponse> createSection(@PathVariable Long lineId, @RequestBody SectionRequest sectionRequest) {
-        LineResponse line = sectionService.addSection(lineId, sectionRequest);
+        LineResponse line = lineWriteLocks.execute(lineId, () -> sectionService.addSection(lineId, sectionRequest));
         return ResponseEntity.status(HttpStatus.CREATED).body(line);
     }
+
+    @DeleteMapping("/{lineId}/stations")
+    public ResponseEntity<Void> removeSection(@PathVariable Long lineId, @RequestParam Long stationId) {
+        lineWriteLocks.execute(lineId, () -> sectionService.removeSection(lineId, stationId));
+        return ResponseEntity.noContent().build();
+    }
 }
@@ -0,0 +1,44 @@
+package nextstep.subway.station.application;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import nextstep.subway.common.exception.NotFoundException;
+import nextstep.subway.station.domain.Station;
+import nextstep.subway.station.domain.StationRepository;
+import org.springframework.stereotype.Component;
+
+/**
+ * 쓰기 요청에 포함된 역 id 들을 한 번의 조회로 역으로 바꿉니다.
+ * 없는 역이 있으면 그 id 들을 담아 NotFoundException 을 던집니다.
+ */
+@Component
+public class StationResolver {
+    private StationRepository stationRepository;
+
+    public StationResolver(StationRepository stationRepository) {
+        this.stationRepository = stationRepository;
+    }
+
+    public Map<Long, Station> resolve(Long... stationIds) {
+        return resolveAll(Arrays.asList(stationIds));
+    }
+
+    public Map<Long, Station> resolveAll(Collection<Long> stationIds) {
+        if (stationIds.contains(null)) {
+            throw new IllegalArgumentException("역을 지정해야 합니다.");
+        }
+
+        Set<Long> ids = stationIds.stream().collect(Collectors.toSet());
+        Map<Long, Station> stations = stationRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Station::getId, Function.identity()));
+        if (stations.size() != ids.size()) {
+            ids.removeAll(stations.keySet());
+            throw new NotFoundException("존재하지 않는 역입니다. " + ids);
+        }
+        return stations;
+    }
+}
@@ -1,40 +1,176 @@
 package nextstep.subway.station.application;
 
+import com.google.common.collect.Lists;
+import io.micrometer.core.annotation.Timed;
+import nextstep.subway.common.config.MetricsConfig;
+import nextstep.subway.common.exception.ConflictException;
+import nextstep.subway.common.exception.NotFoundException;
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.line.domain.LineChangedEvent;
+import nextstep.subway.line.domain.LineRepository;
+import nextstep.subway.section.domain.SectionRepository;
 import nextstep.subway.station.domain.Station;
+import nextstep.subway.station.domain.StationChangedEvent;
 import nextstep.subway.station.domain.StationRepository;
+import nextstep.subway.station.dto.StationBulkFailure;
+import nextstep.subway.station.dto.StationBulkResponse;
 import nextstep.subway.station.dto.StationRequest;
 import nextstep.subway.station.dto.StationResponse;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
 
 @Service
 @Transactional(readOnly = true)
 public class StationService {
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int BULK_CHUNK_SIZE = 500;
+
     private StationRepository stationRepository;
+    private SectionRepository sectionRepository;
+    private LineRepository lineRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private EntityManager entityManager;
 
-    public StationService(StationRepository stationRepository) {
+    public StationService(StationRepository stationRepository, SectionRepository sectionRepository,
+                          LineRepository lineRepository, ApplicationEventPublisher eventPublisher,
+                          EntityManager entityManager) {
         this.stationRepository = stationRepository;
+        this.sectionRepository = sectionRepository;
+        this.lineRepository = lineRepository;
+        this.eventPublisher = eventPublisher;
+        this.entityManager = entityManager;
     }
 
     @Transactional
+    @Timed(MetricsConfig.SERVICE_TIMER)
     public StationResponse saveStation(StationRequest stationRequest) {
         Station persistStation = stationRepository.save(stationRequest.toStation());
+        eventPublisher.publishEvent(new StationChangedEvent(persistStation.getId()));
         return StationResponse.of(persistStation);
     }
 
+    /**
+     * 이름 중복은 청크마다 한 번의 조회로 미리 걸러 실패 목록으로 돌려주고, 나머지는 JDBC 배치로 저장합니다.
+     * 미리 확인한 뒤 다른 요청이 같은 이름을 먼저 저장하면 유일 제약에 걸려 어느 행인지 알 수 없으므로,
+     * 전체를 되돌리고 409 로 알립니다. 다시 보내면 그 이름은 실패 목록으로 돌아옵니다.
+     */
+    @Transactional
+    @Timed(MetricsConfig.SERVICE_TIMER)
+    public StationBulkResponse saveStations(List<StationRequest> stationRequests) {
+        List<StationResponse> stations = new ArrayList<>();
+        List<StationBulkFailure> failures = new ArrayList<>();
+        Set<String> requestedNames = new HashSet<>();
+
+        int index = 0;
+        for (List<StationRequest> chunk : Lists.partition(stationRequests, BULK_CHUNK_SIZE)) {
+            Set<String> existingNames = new HashSet<>(stationRepository.findNamesIn(chunk.stream()
+                    .map(StationRequest::getName)
+                    .collect(Collectors.toSet())));
+
+            List<Station> newStations = new ArrayList<>();
+            for (StationRequest stationRequest : chunk) {
+                String name = stationRequest.getName();
+                if (name == null || name.trim().isEmpty()) {
+                    failures.add(new StationBulkFailure(index++, name, "역 이름이 비어있습니다."));
+                    continue;
+                }
+                if (existingNames.contains(name) || !requestedNames.add(name)) {
+                    failures.add(new StationBulkFailure(index++, name, "이미 존재하는 역 이름입니다."));
+                    continue;
+                }
+                newStations.add(stationRequest.toStation());
+                index++;
+            }
+
+            stationRepository.saveAll(newStations);
+            try {
+                stationRepository.flush();
+            } catch (DataIntegrityViolationException e) {
+                throw new ConflictException("다른 요청이 같은 이름의 역을 먼저 등록했습니다. 다시 시도해 주세요.");
+            }
+            newStations.forEach(station -> stations.add(StationResponse.of(station)));
+            entityManager.clear();
+        }
+
+        eventPublisher.publishEvent(new StationChangedEvent(null));
+        return new StationBulkResponse(stations, failures);
+    }
+
+    @Timed(MetricsConfig.SERVICE_TIMER)
     public List<StationResponse> findAllStations() {
-        List<Station> stations = stationRepository.findAll();
+        return stationRepository.findAllResponses();
+    }
 
-        return stations.stream()
-                .map(station -> StationResponse.of(station))
-                .collect(Collectors.toList());
+    @Timed(MetricsConfig.SERVICE_TIMER)
+    public List<StationResponse> findStations(Long after, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("조회할 역의 수는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        return stationRepository.findResponsesAfter(after == null ? 0L : after, PageRequest.of(0, size));
     }
 
     @Transactional
+    @Timed(MetricsConfig.SERVICE_TIMER)
     public void deleteStationById(Long id) {
+        if (sectionRepository.existsByUpStation_Id(id) || sectionRepository.existsByDownStation_Id(id)) {
+            throw new ConflictException("노선에 등록된 역은 제거할 수 없습니다.");
+        }
+
+        deleteStation(id);
+    }
+
+    public List<Long> findLineIdsByStationId(Long id) {
+        return lineRepository.findIdsByStationId(id);
+    }
+
+    /**
+     * 역이 등록된 노선마다 역을 빼 앞뒤 구간을 이은 뒤 역을 제거합니다. 한 노선이라도 실패하면 모두 되돌립니다.
+     * lockedLineIds 는 호출한 쪽이 쓰기 락을 잡은 노선들입니다. 락을 잡은 뒤 역이 다른 노선에 등록되어 트랜잭션 안에서 다시 찾은 노선과 다르면,
+     * 락 없이 노선을 바꾸지 않도록 409 로 거절합니다.
+     * 구간이 하나뿐인 노선은 역을 빼면 노선이 남지 않으므로 지우지 않고 409 로 거절합니다.
+     * 구간 등록/제거와 같은 노선 버전을 올리므로 동시에 바뀐 노선이 있으면 LineWriteLocks 가 같은 정책으로 다시 시도합니다.
+     */
+    @Transactional
+    @Timed(MetricsConfig.SERVICE_TIMER)
+    public void deleteStationFromLines(Long id, Collection<Long> lockedLineIds) {
+        List<Long> lineIds = lineRepository.findIdsByStationId(id);
+        if (!new HashSet<>(lockedLineIds).equals(new HashSet<>(lineIds))) {
+            throw new ConflictException("역을 제거하는 동안 역이 등록된 노선이 바뀌었습니다. 다시 시도해 주세요.");
+        }
+
+        for (Long lineId : lineIds) {
+            Line line = lineRepository.findForSectionUpdateById(lineId)
+                    .orElseThrow(() -> new NotFoundException("지하철 노선이 존재하지 않습니다. " + lineId));
+            if (line.hasSingleSection()) {
+                throw new ConflictException("구간이 하나뿐인 노선(" + line.getName() + ")에 등록된 역은 제거할 수 없습니다. 노선을 먼저 삭제해 주세요.");
+            }
+            line.removeStation(id);
+            eventPublisher.publishEvent(new LineChangedEvent(lineId));
+        }
+        entityManager.flush();
+
+        deleteStation(id);
+    }
+
+    // 확인한 뒤 커밋하기 전에 다른 요청이 이 역으로 구간을 등록하면 외래 키 제약에 걸리므로, 400 대신 409 로 알립니다.
+    private void deleteStation(Long id) {
         stationRepository.deleteById(id);
+        try {
+            stationRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw new ConflictException("역을 제거하는 동안 다른 노선에 역이 등록되었습니다. 다시 시도해 주세요.");
+        }
+        eventPublisher.publishEvent(new StationChangedEvent(id));
     }
 }
@@ -2,11 +2,15 @@ package nextstep.subway.station.domain;
 
 import javax.persistence.*;
 import nextstep.subway.common.domain.BaseEntity;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Station extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "station_seq_generator")
+    @SequenceGenerator(name = "station_seq_generator", sequenceName = "station_seq", allocationSize = 50)
     private Long id;
     @Column(unique = true)
     private String name;
@@ -0,0 +1,13 @@
+package nextstep.subway.station.domain;
+
+public class StationChangedEvent {
+    private final Long stationId;
+
+    public StationChangedEvent(Long stationId) {
+        this.stationId = stationId;
+    }
+
+    public Long getStationId() {
+        return stationId;
+    }
+}
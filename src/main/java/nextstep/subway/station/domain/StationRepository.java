@@ -1,10 +1,29 @@
 package nextstep.subway.station.domain;
 
-import org.springframework.data.jpa.repository.JpaRepository;
-
+import java.util.Collection;
 import java.util.List;
+import javax.persistence.QueryHint;
+import nextstep.subway.station.dto.StationResponse;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 public interface StationRepository extends JpaRepository<Station, Long> {
     @Override
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "true"))
     List<Station> findAll();
-}
\ No newline at end of file
+
+    @Query("select s.name from Station s where s.name in :names")
+    List<String> findNamesIn(@Param("names") Collection<String> names);
+
+    @Query("select new nextstep.subway.station.dto.StationResponse(s.id, s.name, s.createdDate, s.modifiedDate)"
+            + " from Station s order by s.id")
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "true"))
+    List<StationResponse> findAllResponses();
+
+    @Query("select new nextstep.subway.station.dto.StationResponse(s.id, s.name, s.createdDate, s.modifiedDate)"
+            + " from Station s where s.id > :after order by s.id")
+    List<StationResponse> findResponsesAfter(@Param("after") Long after, Pageable pageable);
+}
@@ -0,0 +1,28 @@
+package nextstep.subway.station.dto;
+
+public class StationBulkFailure {
+    private int index;
+    private String name;
+    private String reason;
+
+    public StationBulkFailure() {
+    }
+
+    public StationBulkFailure(int index, String name, String reason) {
+        this.index = index;
+        this.name = name;
+        this.reason = reason;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+}
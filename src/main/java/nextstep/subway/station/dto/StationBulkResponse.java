@@ -0,0 +1,24 @@
+package nextstep.subway.station.dto;
+
+import java.util.List;
+
+public class StationBulkResponse {
+    private List<StationResponse> stations;
+    private List<StationBulkFailure> failures;
+
+    public StationBulkResponse() {
+    }
+
+    public StationBulkResponse(List<StationResponse> stations, List<StationBulkFailure> failures) {
+        this.stations = stations;
+        this.failures = failures;
+    }
+
+    public List<StationResponse> getStations() {
+        return stations;
+    }
+
+    public List<StationBulkFailure> getFailures() {
+        return failures;
+    }
+}
@@ -2,10 +2,15 @@ package nextstep.subway.station.ui;
 
 import java.net.URI;
 import java.util.List;
+import nextstep.subway.common.application.ResourceVersions;
+import nextstep.subway.line.application.LineWriteLocks;
 import nextstep.subway.station.application.StationService;
+import nextstep.subway.station.dto.StationBulkResponse;
 import nextstep.subway.station.dto.StationRequest;
 import nextstep.subway.station.dto.StationResponse;
 import nextstep.subway.common.ui.BaseController;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,15 +18,22 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/stations")
 public class StationController extends BaseController {
     private StationService stationService;
+    private ResourceVersions resourceVersions;
+    private LineWriteLocks lineWriteLocks;
 
-    public StationController(StationService stationService) {
+    public StationController(StationService stationService, ResourceVersions resourceVersions,
+                             LineWriteLocks lineWriteLocks) {
         this.stationService = stationService;
+        this.resourceVersions = resourceVersions;
+        this.lineWriteLocks = lineWriteLocks;
     }
 
     @PostMapping
@@ -30,13 +42,39 @@ public class StationController extends BaseController {
         return ResponseEntity.created(URI.create("/stations/" + station.getId())).body(station);
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<StationBulkResponse> createStations(@RequestBody List<StationRequest> stationRequests) {
+        return ResponseEntity.ok().body(stationService.saveStations(stationRequests));
+    }
+
     @GetMapping
-    public ResponseEntity<List<StationResponse>> showStations() {
-        return ResponseEntity.ok().body(stationService.findAllStations());
+    public ResponseEntity<List<StationResponse>> showStations(@RequestParam(required = false) Long after,
+                                                              @RequestParam(required = false) Integer size,
+                                                              WebRequest request) {
+        String eTag = resourceVersions.stationETag();
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        if (size == null) {
+            return ResponseEntity.ok().eTag(eTag).body(stationService.findAllStations());
+        }
+
+        List<StationResponse> stations = stationService.findStations(after, size);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(eTag);
+        if (stations.size() == size) {
+            Long nextCursor = stations.get(stations.size() - 1).getId();
+            response.header(HttpHeaders.LINK, "</stations?after=" + nextCursor + "&size=" + size + ">; rel=\"next\"");
+        }
+        return response.body(stations);
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity deleteStation(@PathVariable Long id) {
+    public ResponseEntity deleteStation(@PathVariable Long id, @RequestParam(defaultValue = "false") boolean cascade) {
+        if (cascade) {
+            List<Long> lineIds = stationService.findLineIdsByStationId(id);
+            lineWriteLocks.executeAll(lineIds, () -> stationService.deleteStationFromLines(id, lineIds));
+            return ResponseEntity.noContent().build();
+        }
         stationService.deleteStationById(id);
         return ResponseEntity.noContent().build();
     }
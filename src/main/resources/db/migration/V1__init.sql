@@ -0,0 +1,44 @@
+create sequence station_seq start with 1 increment by 50;
+create sequence section_seq start with 1 increment by 50;
+
+create table station (
+    id bigint not null,
+    created_date timestamp,
+    modified_date timestamp,
+    name varchar(255),
+    primary key (id),
+    constraint uk_station_name unique (name)
+);
+
+create table line (
+    id bigint generated by default as identity,
+    created_date timestamp,
+    modified_date timestamp,
+    color varchar(255) not null,
+    name varchar(255) not null,
+    version bigint,
+    primary key (id),
+    constraint uk_line_color unique (color),
+    constraint uk_line_name unique (name)
+);
+
+create table section (
+    id bigint not null,
+    created_date timestamp,
+    modified_date timestamp,
+    distance integer not null,
+    down_station_id bigint not null,
+    line_id bigint,
+    up_station_id bigint not null,
+    primary key (id)
+);
+
+-- 노선의 구간 조회와 노선별 역 포함 여부 확인(line_id, *_station_id), 역이 쓰이는지 확인(*_station_id)에 사용합니다.
+create index ix_section_line_up_station on section (line_id, up_station_id);
+create index ix_section_line_down_station on section (line_id, down_station_id);
+create index ix_section_up_station on section (up_station_id);
+create index ix_section_down_station on section (down_station_id);
+
+alter table section add constraint fk_section_line foreign key (line_id) references line;
+alter table section add constraint fk_section_up_station foreign key (up_station_id) references station;
+alter table section add constraint fk_section_down_station foreign key (down_station_id) references station;
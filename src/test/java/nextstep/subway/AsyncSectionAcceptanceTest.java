@@ -0,0 +1,13 @@
+package nextstep.subway;
+
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * 구간 인수 테스트를 전용 핸들러 풀(async 모드)에서 다시 실행합니다.
+ */
+@DisplayName("지하철 노선 역 등록 관련 기능 (async)")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "subway.web.execution=async")
+public class AsyncSectionAcceptanceTest extends SectionAcceptanceTest {
+}
@@ -19,7 +19,8 @@ public class BaseAcceptanceTest {
 
     @BeforeEach
     public void setUp() {
-        if (RestAssured.port == RestAssured.UNDEFINED_PORT) {
+        // 설정이 다른 테스트 클래스는 다른 포트의 애플리케이션 컨텍스트를 띄우므로 포트가 바뀔 때마다 다시 맞춥니다.
+        if (RestAssured.port != this.port) {
             RestAssured.port = this.port;
             databaseCleanup.afterPropertiesSet();
         }
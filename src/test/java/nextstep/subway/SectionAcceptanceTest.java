@@ -6,10 +6,18 @@ import static org.assertj.core.api.Assertions.assertThat;
 import io.restassured.RestAssured;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import nextstep.subway.line.dto.LineResponse;
 import nextstep.subway.line.LineAcceptanceTest;
+import nextstep.subway.station.dto.StationResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -56,6 +64,25 @@ public class SectionAcceptanceTest extends BaseAcceptanceTest {
         지하철_노선에_지하철역_등록_확인(지하철_노선에_지하철역_등록_응답, "강남역", "신규역", "광교역");
     }
 
+    /**
+     * Given 지하철 노선에 구간을 등록하고
+     * When 하행 종점 뒤에 기존 구간보다 긴 구간을 등록하면
+     * Then 새로운 역이 하행 종점으로 등록된다.
+     */
+    @DisplayName("하행 종점 연장은 기존 구간 길이와 관계없이 등록할 수 있음")
+    @Test
+    void 하행_종점_뒤에_긴_구간_등록() {
+        // When
+        ExtractableResponse<Response> 신규역 = 지하철역_생성_요청("광교중앙역");
+        Long 신규역_ID = 응답_ID(신규역);
+        ExtractableResponse<Response> 지하철_노선에_지하철역_등록_응답 = 지하철_노선에_지하철역_생성_요청(노선_ID, 하행역_ID, 신규역_ID, 초기_노선_길이 + 1);
+
+        // Then
+        assertThat(지하철_노선에_지하철역_등록_응답.statusCode()).isEqualTo(HttpStatus.CREATED.value());
+        assertThat(지하철_노선에_지하철역_등록_응답.jsonPath().getList("stations.name", String.class))
+                .containsExactly("강남역", "광교역", "광교중앙역");
+    }
+
     // TODO: 메서드명과 display name이 같은 경우는 Display name을 제거하는지?
     /**
      * Given 지하철 노선에 구간을 등록하고
@@ -103,7 +130,7 @@ public class SectionAcceptanceTest extends BaseAcceptanceTest {
         // When
         ExtractableResponse<Response> 신규역 = 지하철역_생성_요청("양재역");
         Long 신규역_ID = 응답_ID(신규역);
-        ExtractableResponse<Response> 지하철_노선에_지하철역_등록_응답 = 지하철_노선에_지하철역_생성_요청(노선_ID, 하행역_ID, 신규역_ID, distance);
+        ExtractableResponse<Response> 지하철_노선에_지하철역_등록_응답 = 지하철_노선에_지하철역_생성_요청(노선_ID, 상행역_ID, 신규역_ID, distance);
 
         // Then
         printErrorMessage(지하철_노선에_지하철역_등록_응답);
@@ -147,6 +174,172 @@ public class SectionAcceptanceTest extends BaseAcceptanceTest {
         assertThat(지하철_노선에_지하철역_등록_응답.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
     }
 
+    /**
+     * When 존재하지 않는 역으로 구간을 등록하면
+     * Then 404 Not Found를 응답한다.
+     */
+    @DisplayName("예외 테스트 : 존재하지 않는 역은 추가할 수 없음")
+    @Test
+    void 존재하지_않는_역_예외() {
+        // When
+        ExtractableResponse<Response> 지하철_노선에_지하철역_등록_응답 = 지하철_노선에_지하철역_생성_요청(노선_ID, 하행역_ID, 하행역_ID + 1000, 4);
+
+        // Then
+        printErrorMessage(지하철_노선에_지하철역_등록_응답);
+        assertThat(지하철_노선에_지하철역_등록_응답.statusCode()).isEqualTo(HttpStatus.NOT_FOUND.value());
+    }
+
+    /**
+     * When 존재하지 않는 노선에 구간을 등록하면
+     * Then 역 제거와 같이 404 Not Found를 응답한다.
+     */
+    @DisplayName("예외 테스트 : 존재하지 않는 노선에는 구간을 추가할 수 없음")
+    @Test
+    void 존재하지_않는_노선에_구간_등록_예외() {
+        // When
+        ExtractableResponse<Response> 지하철_노선에_지하철역_등록_응답 = 지하철_노선에_지하철역_생성_요청(노선_ID + 1000, 상행역_ID, 하행역_ID, 4);
+
+        // Then
+        printErrorMessage(지하철_노선에_지하철역_등록_응답);
+        assertThat(지하철_노선에_지하철역_등록_응답.statusCode()).isEqualTo(HttpStatus.NOT_FOUND.value());
+    }
+
+    /**
+     * Given 지하철 노선 사이에 역을 등록하고
+     * When 가운데 역을 제거하면
+     * Then 앞뒤 구간이 하나로 합쳐지고 노선 길이는 그대로다.
+     */
+    @DisplayName("노선 가운데 역을 제거한다.")
+    @Test
+    void 가운데_역_제거() {
+        // Given
+        Long 양재역_ID = 응답_ID(지하철역_생성_요청("양재역"));
+        지하철_노선에_지하철역_생성_요청(노선_ID, 상행역_ID, 양재역_ID, 4);
+
+        // When
+        ExtractableResponse<Response> 지하철_노선에_지하철역_제거_응답 = 지하철_노선에_지하철역_제거_요청(노선_ID, 양재역_ID);
+
+        // Then
+        ResponseAssertTest.응답_컨텐츠가_없는_성공_확인(지하철_노선에_지하철역_제거_응답);
+        assertThat(LineAcceptanceTest.지하철노선_조회_요청(노선_ID).jsonPath().getList("stations.name", String.class))
+                .containsExactly("강남역", "광교역");
+        assertThat(경로_거리(상행역_ID, 하행역_ID)).isEqualTo(초기_노선_길이);
+    }
+
+    /**
+     * Given 지하철 노선 사이에 역을 등록하고
+     * When 상행 종점을 제거하면
+     * Then 다음 역이 상행 종점이 된다.
+     */
+    @DisplayName("노선의 종점을 제거한다.")
+    @Test
+    void 종점_제거() {
+        // Given
+        Long 양재역_ID = 응답_ID(지하철역_생성_요청("양재역"));
+        지하철_노선에_지하철역_생성_요청(노선_ID, 상행역_ID, 양재역_ID, 4);
+
+        // When
+        ExtractableResponse<Response> 지하철_노선에_지하철역_제거_응답 = 지하철_노선에_지하철역_제거_요청(노선_ID, 상행역_ID);
+
+        // Then
+        ResponseAssertTest.응답_컨텐츠가_없는_성공_확인(지하철_노선에_지하철역_제거_응답);
+        assertThat(LineAcceptanceTest.지하철노선_조회_요청(노선_ID).jsonPath().getList("stations.name", String.class))
+                .containsExactly("양재역", "광교역");
+        assertThat(경로_거리(양재역_ID, 하행역_ID)).isEqualTo(초기_노선_길이 - 4);
+    }
+
+    /**
+     * When 구간이 하나뿐인 노선에서 역을 제거하면
+     * Then 400 Bad Request를 응답한다.
+     */
+    @DisplayName("예외 테스트 : 구간이 하나뿐인 노선에서는 역을 제거할 수 없음")
+    @Test
+    void 구간이_하나뿐인_노선에서_역_제거_예외() {
+        // When
+        ExtractableResponse<Response> 지하철_노선에_지하철역_제거_응답 = 지하철_노선에_지하철역_제거_요청(노선_ID, 하행역_ID);
+
+        // Then
+        printErrorMessage(지하철_노선에_지하철역_제거_응답);
+        assertThat(지하철_노선에_지하철역_제거_응답.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    /**
+     * When 존재하지 않는 노선에서 역을 제거하면
+     * Then 404 Not Found를 응답한다.
+     */
+    @DisplayName("예외 테스트 : 존재하지 않는 노선에서는 역을 제거할 수 없음")
+    @Test
+    void 존재하지_않는_노선에서_역_제거_예외() {
+        // When
+        ExtractableResponse<Response> 지하철_노선에_지하철역_제거_응답 = 지하철_노선에_지하철역_제거_요청(노선_ID + 1000, 상행역_ID);
+
+        // Then
+        printErrorMessage(지하철_노선에_지하철역_제거_응답);
+        assertThat(지하철_노선에_지하철역_제거_응답.statusCode()).isEqualTo(HttpStatus.NOT_FOUND.value());
+    }
+
+    /**
+     * Given 지하철 노선 사이에 역을 등록하고
+     * When 노선에 등록되지 않은 역을 제거하면
+     * Then 400 Bad Request를 응답하고 노선은 그대로다.
+     */
+    @DisplayName("예외 테스트 : 노선에 등록되지 않은 역은 제거할 수 없음")
+    @Test
+    void 노선에_없는_역_제거_예외() {
+        // Given
+        Long 양재역_ID = 응답_ID(지하철역_생성_요청("양재역"));
+        Long 판교역_ID = 응답_ID(지하철역_생성_요청("판교역"));
+        지하철_노선에_지하철역_생성_요청(노선_ID, 상행역_ID, 양재역_ID, 4);
+
+        // When
+        ExtractableResponse<Response> 지하철_노선에_지하철역_제거_응답 = 지하철_노선에_지하철역_제거_요청(노선_ID, 판교역_ID);
+
+        // Then
+        printErrorMessage(지하철_노선에_지하철역_제거_응답);
+        assertThat(지하철_노선에_지하철역_제거_응답.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(LineAcceptanceTest.지하철노선_조회_요청(노선_ID).jsonPath().getList("stations.name", String.class))
+                .containsExactly("강남역", "양재역", "광교역");
+    }
+
+    /**
+     * Given 역 101개로 이루어진 노선을 만들고
+     * When 서로 다른 구간 100개에 동시에 새로운 역을 등록하면
+     * Then 모든 요청이 성공하고
+     * Then 새로운 역이 빠짐없이 노선에 포함되며 전체 노선 길이는 그대로다.
+     */
+    @DisplayName("같은 노선에 동시에 구간을 등록해도 구간 연결과 길이가 유지된다.")
+    @Test
+    void 동시_구간_등록() throws Exception {
+        // Given
+        int 구간_수 = 100;
+        int 구간_길이 = 10;
+        List<Long> 노선_역_ID = 지하철역_일괄_생성_요청("기존역", 구간_수 + 1);
+        List<Long> 신규역_ID = 지하철역_일괄_생성_요청("신규역", 구간_수);
+        List<Integer> 거리 = IntStream.range(0, 구간_수).mapToObj(i -> 구간_길이).collect(Collectors.toList());
+        Long 동시_노선_ID = 응답_ID(LineAcceptanceTest.지하철노선_가져오기_요청("동시선", "bg-gray-600", 노선_역_ID, 거리));
+
+        // When
+        ExecutorService executorService = Executors.newFixedThreadPool(16);
+        List<Future<Integer>> 응답_코드 = new ArrayList<>();
+        for (int i = 0; i < 구간_수; i++) {
+            Long 상행역 = 노선_역_ID.get(i);
+            Long 신규역 = 신규역_ID.get(i);
+            응답_코드.add(executorService.submit(() -> 구간_등록_응답_코드(동시_노선_ID, 상행역, 신규역, 구간_길이 / 2)));
+        }
+        for (Future<Integer> future : 응답_코드) {
+            assertThat(future.get()).isEqualTo(HttpStatus.CREATED.value());
+        }
+        executorService.shutdown();
+
+        // Then
+        List<Long> 역_목록 = LineAcceptanceTest.지하철노선_조회_요청(동시_노선_ID).jsonPath().getList("stations.id", Long.class);
+        assertThat(역_목록).hasSize(구간_수 * 2 + 1);
+        assertThat(new HashSet<>(역_목록)).hasSize(역_목록.size());
+        assertThat(역_목록).containsAll(노선_역_ID);
+        assertThat(역_목록).containsAll(신규역_ID);
+        assertThat(경로_거리(노선_역_ID.get(0), 노선_역_ID.get(구간_수))).isEqualTo(구간_수 * 구간_길이);
+    }
+
     private void 지하철_노선에_지하철역_등록_확인(
                 ExtractableResponse<Response> response,
                 String upStationsName,
@@ -172,6 +365,56 @@ public class SectionAcceptanceTest extends BaseAcceptanceTest {
                 .extract();
     }
 
+    private ExtractableResponse<Response> 지하철_노선에_지하철역_제거_요청(Long lineId, Long stationId) {
+        return RestAssured.given().log().all()
+                .queryParam("stationId", stationId)
+                .when().delete("/lines/{lineId}/stations", lineId)
+                .then().log().all()
+                .extract();
+    }
+
+    private List<Long> 지하철역_일괄_생성_요청(String prefix, int count) {
+        List<HashMap<String, Object>> params = IntStream.range(0, count)
+                .mapToObj(i -> {
+                    HashMap<String, Object> param = new HashMap<>();
+                    param.put("name", prefix + i);
+                    return param;
+                })
+                .collect(Collectors.toList());
+
+        return RestAssured.given().log().all()
+                .body(params)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().post("/stations/bulk")
+                .then().log().all()
+                .extract().jsonPath().getList("stations", StationResponse.class).stream()
+                .map(StationResponse::getId)
+                .collect(Collectors.toList());
+    }
+
+    private int 구간_등록_응답_코드(Long lineId, Long upStationId, Long downStationId, int distance) {
+        HashMap<String, Object> params = new HashMap<>();
+        params.put("upStationId", upStationId);
+        params.put("downStationId", downStationId);
+        params.put("distance", distance);
+
+        return RestAssured.given()
+                .body(params)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().post("/lines/{lineId}/stations", lineId)
+                .then()
+                .extract().statusCode();
+    }
+
+    private int 경로_거리(Long source, Long target) {
+        return RestAssured.given().log().all()
+                .queryParam("source", source)
+                .queryParam("target", target)
+                .when().get("/paths")
+                .then().log().all()
+                .extract().jsonPath().getInt("distance");
+    }
+
     private static void printErrorMessage(ExtractableResponse<Response> 지하철_노선에_지하철역_등록_응답) {
         System.out.println(지하철_노선에_지하철역_등록_응답.jsonPath().getString("errorMessage"));
     }
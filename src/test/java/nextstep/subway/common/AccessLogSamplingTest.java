@@ -0,0 +1,170 @@
+package nextstep.subway.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.access.AccessConstants;
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.servlet.DispatcherType;
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import nextstep.subway.BaseAcceptanceTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+/**
+ * 모든 요청을 표본으로 뽑도록 하고, 접근 로그가 읽는 요청 속성에 요청/응답 본문이 남는지 확인합니다.
+ */
+@DisplayName("접근 로그 본문 표본")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "subway.access-log.sample-rate=1")
+@Import(AccessLogSamplingTest.AccessLogCaptureConfig.class)
+public class AccessLogSamplingTest extends BaseAcceptanceTest {
+    @Autowired
+    AccessLogCapture accessLogCapture;
+
+    /**
+     * When 표본으로 뽑힌 요청으로 지하철역을 생성하면
+     * Then 접근 로그에 요청 본문과 응답 본문이 모두 남고
+     * Then 쓰기는 모드와 관계없이 비동기 재디스패치 없이 한 번만 디스패치된다
+     */
+    @DisplayName("표본으로 뽑힌 요청은 요청과 응답 본문이 접근 로그에 남는다.")
+    @Test
+    void sampledBodies() throws InterruptedException {
+        // when
+        accessLogCapture.clear();
+        ExtractableResponse<Response> 지하철역_생성_응답 = 지하철역_생성_요청("강남역");
+
+        // then
+        assertThat(지하철역_생성_응답.statusCode()).isEqualTo(HttpStatus.CREATED.value());
+        accessLogCapture.awaitDispatches(1);
+        assertThat(accessLogCapture.input()).contains("강남역");
+        assertThat(accessLogCapture.output()).contains("강남역");
+        assertThat(accessLogCapture.dispatches()).containsExactly(DispatcherType.REQUEST);
+    }
+
+    /**
+     * Given 지하철역을 생성하고
+     * When 표본으로 뽑힌 요청으로 지하철역 목록을 조회하면
+     * Then 접근 로그에 응답 본문이 남는다
+     */
+    @DisplayName("표본으로 뽑힌 조회는 응답 본문이 접근 로그에 남는다.")
+    @Test
+    void sampledResponseBodyOfRead() throws InterruptedException {
+        // given
+        지하철역_생성_요청("강남역");
+
+        // when
+        accessLogCapture.clear();
+        ExtractableResponse<Response> 지하철역_목록_응답 = RestAssured.given().log().all()
+                .when().get("/stations")
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(지하철역_목록_응답.statusCode()).isEqualTo(HttpStatus.OK.value());
+        accessLogCapture.awaitDispatches(기대하는_조회_디스패치().size());
+        assertThat(accessLogCapture.output()).contains("강남역");
+        assertThat(accessLogCapture.dispatches()).containsExactlyElementsOf(기대하는_조회_디스패치());
+    }
+
+    protected List<DispatcherType> 기대하는_조회_디스패치() {
+        return Arrays.asList(DispatcherType.REQUEST);
+    }
+
+    private ExtractableResponse<Response> 지하철역_생성_요청(String name) {
+        HashMap<String, String> params = new HashMap<>();
+        params.put("name", name);
+
+        return RestAssured.given().log().all()
+                .body(params)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().post("/stations")
+                .then().log().all()
+                .extract();
+    }
+
+    @TestConfiguration
+    static class AccessLogCaptureConfig {
+        @Bean
+        AccessLogCapture accessLogCapture() {
+            return new AccessLogCapture();
+        }
+
+        @Bean
+        FilterRegistrationBean<AccessLogCapture> accessLogCaptureRegistration(AccessLogCapture accessLogCapture) {
+            FilterRegistrationBean<AccessLogCapture> registration = new FilterRegistrationBean<>(accessLogCapture);
+            registration.setDispatcherTypes(EnumSet.allOf(DispatcherType.class));
+            registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+            return registration;
+        }
+    }
+
+    /**
+     * 가장 바깥에서 디스패치가 끝날 때마다 접근 로그가 읽을 본문 속성을 기록합니다.
+     */
+    static class AccessLogCapture implements Filter {
+        private final List<DispatcherType> dispatches = new CopyOnWriteArrayList<>();
+        private volatile byte[] input;
+        private volatile byte[] output;
+
+        @Override
+        public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+                throws IOException, ServletException {
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                Object inputBuffer = request.getAttribute(AccessConstants.LB_INPUT_BUFFER);
+                Object outputBuffer = request.getAttribute(AccessConstants.LB_OUTPUT_BUFFER);
+                input = inputBuffer instanceof byte[] ? (byte[]) inputBuffer : null;
+                output = outputBuffer instanceof byte[] ? (byte[]) outputBuffer : null;
+                dispatches.add(request.getDispatcherType());
+            }
+        }
+
+        void clear() {
+            dispatches.clear();
+            input = null;
+            output = null;
+        }
+
+        // 응답을 받은 뒤에도 가장 바깥 필터의 finally 가 아직 끝나지 않았을 수 있으므로 잠시 기다립니다.
+        void awaitDispatches(int count) throws InterruptedException {
+            for (int i = 0; i < 100 && dispatches.size() < count; i++) {
+                Thread.sleep(10);
+            }
+        }
+
+        List<DispatcherType> dispatches() {
+            return dispatches;
+        }
+
+        String input() {
+            return input == null ? "" : new String(input, StandardCharsets.UTF_8);
+        }
+
+        String output() {
+            return output == null ? "" : new String(output, StandardCharsets.UTF_8);
+        }
+    }
+}
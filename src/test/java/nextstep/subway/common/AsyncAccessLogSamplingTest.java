@@ -0,0 +1,22 @@
+package nextstep.subway.common;
+
+import java.util.Arrays;
+import java.util.List;
+import javax.servlet.DispatcherType;
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+/**
+ * async 모드에서 풀에서 실행한 조회는 응답 본문이 ASYNC 재디스패치에서 쓰이므로 그 디스패치까지 거친 뒤에도 본문이 남는지 확인합니다.
+ */
+@DisplayName("접근 로그 본문 표본 (async)")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"subway.access-log.sample-rate=1", "subway.web.execution=async"})
+@Import(AccessLogSamplingTest.AccessLogCaptureConfig.class)
+public class AsyncAccessLogSamplingTest extends AccessLogSamplingTest {
+    @Override
+    protected List<DispatcherType> 기대하는_조회_디스패치() {
+        return Arrays.asList(DispatcherType.REQUEST, DispatcherType.ASYNC);
+    }
+}
@@ -0,0 +1,169 @@
+package nextstep.subway.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.restassured.RestAssured;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import nextstep.subway.BaseAcceptanceTest;
+import nextstep.subway.line.application.LineService;
+import nextstep.subway.line.application.LineWriteLocks;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+/**
+ * 핸들러 풀 스레드 하나와 큐 한 칸으로 async 모드를 띄웁니다.
+ * 조회가 풀과 큐를 채우면 다음 조회는 503 으로 거절되고, 노선 쓰기 락을 기다리는 쓰기는 풀을 차지하지 않는지 확인합니다.
+ */
+@DisplayName("핸들러 풀 포화")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"subway.web.execution=async", "subway.web.pool-size=1", "subway.web.queue-capacity=1"})
+public class HandlerPoolSaturationTest extends BaseAcceptanceTest {
+    private static final Long 노선_ID = 1L;
+
+    @MockBean
+    LineService lineService;
+
+    @Autowired
+    LineWriteLocks lineWriteLocks;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    private final ExecutorService executorService = Executors.newFixedThreadPool(3);
+    private final CountDownLatch 해제 = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        해제.countDown();
+        executorService.shutdown();
+    }
+
+    /**
+     * Given 핸들러 풀의 스레드와 큐가 모두 조회로 차 있을 때
+     * When 조회를 하나 더 보내면
+     * Then 503 Service Unavailable 을 응답하고
+     * Then 기다리던 조회는 그 뒤에 처리된다
+     */
+    @DisplayName("핸들러 풀과 큐가 조회로 가득 차면 503 을 응답한다.")
+    @Test
+    void rejectWhenPoolAndQueueAreFull() throws Exception {
+        // given
+        given(lineService.findAllLines()).willAnswer(invocation -> {
+            해제.await();
+            return Collections.emptyList();
+        });
+        Future<Integer> 실행중_응답_코드 = executorService.submit(this::노선_목록_조회_응답_코드);
+        Future<Integer> 대기중_응답_코드 = executorService.submit(this::노선_목록_조회_응답_코드);
+        핸들러_풀_값이_될_때까지_기다리기(1, 1);
+
+        // when
+        int 거절된_응답_코드 = 노선_목록_조회_응답_코드();
+        해제.countDown();
+
+        // then
+        assertThat(거절된_응답_코드).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+        assertThat(실행중_응답_코드.get(10, TimeUnit.SECONDS)).isEqualTo(HttpStatus.OK.value());
+        assertThat(대기중_응답_코드.get(10, TimeUnit.SECONDS)).isEqualTo(HttpStatus.OK.value());
+    }
+
+    /**
+     * Given 노선 쓰기 락을 잡아 두고 같은 노선에 쓰기 요청 두 개가 락을 기다릴 때
+     * When 노선 목록을 조회하면
+     * Then 쓰기는 핸들러 풀을 차지하지 않으므로 조회가 200 을 응답하고
+     * Then 락이 풀리면 기다리던 쓰기도 처리된다
+     */
+    @DisplayName("노선 쓰기 락을 기다리는 쓰기는 핸들러 풀을 차지하지 않는다.")
+    @Test
+    void writesWaitingForLineLockDoNotHoldPool() throws Exception {
+        // given
+        given(lineService.findAllLines()).willReturn(Collections.emptyList());
+        CountDownLatch 락_획득 = new CountDownLatch(1);
+        executorService.submit(() -> lineWriteLocks.execute(노선_ID, () -> {
+            락_획득.countDown();
+            기다리기(해제);
+        }));
+        락_획득.await();
+        Future<Integer> 첫_쓰기_응답_코드 = executorService.submit(this::노선_이름_수정_응답_코드);
+        Future<Integer> 둘째_쓰기_응답_코드 = executorService.submit(this::노선_이름_수정_응답_코드);
+        노선_쓰기_대기가_될_때까지_기다리기(2);
+
+        // when
+        int 조회_응답_코드 = 노선_목록_조회_응답_코드();
+        해제.countDown();
+
+        // then
+        assertThat(조회_응답_코드).isEqualTo(HttpStatus.OK.value());
+        assertThat(핸들러_풀_값("executor.queued")).isZero();
+        assertThat(첫_쓰기_응답_코드.get(10, TimeUnit.SECONDS)).isEqualTo(HttpStatus.OK.value());
+        assertThat(둘째_쓰기_응답_코드.get(10, TimeUnit.SECONDS)).isEqualTo(HttpStatus.OK.value());
+    }
+
+    private void 핸들러_풀_값이_될_때까지_기다리기(int active, int queued) throws InterruptedException {
+        for (int i = 0; i < 500; i++) {
+            if (핸들러_풀_값("executor.active") == active && 핸들러_풀_값("executor.queued") == queued) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+        throw new IllegalStateException("핸들러 풀이 가득 차지 않았습니다.");
+    }
+
+    private void 노선_쓰기_대기가_될_때까지_기다리기(int waiting) throws InterruptedException {
+        for (int i = 0; i < 500; i++) {
+            double queued = meterRegistry.find("subway.line.write.queue").gauges().stream()
+                    .mapToDouble(gauge -> gauge.value())
+                    .sum();
+            if (queued == waiting) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+        throw new IllegalStateException("쓰기 요청이 노선 쓰기 락을 기다리지 않았습니다.");
+    }
+
+    private double 핸들러_풀_값(String meterName) {
+        return meterRegistry.get(meterName).tag("name", "subway.handler").gauge().value();
+    }
+
+    private int 노선_목록_조회_응답_코드() {
+        return RestAssured.given()
+                .when().get("/lines")
+                .then()
+                .extract().statusCode();
+    }
+
+    private int 노선_이름_수정_응답_코드() {
+        HashMap<String, Object> params = new HashMap<>();
+        params.put("name", "신분당선");
+        params.put("color", "bg-red-600");
+
+        return RestAssured.given()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(params)
+                .when().patch("/lines/{id}", 노선_ID)
+                .then()
+                .extract().statusCode();
+    }
+
+    private static void 기다리기(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package nextstep.subway.common;
+
+import static nextstep.subway.station.StationAcceptanceTest.지하철역_생성_요청;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import nextstep.subway.BaseAcceptanceTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+@DisplayName("메트릭")
+public class MetricsTest extends BaseAcceptanceTest {
+
+    /**
+     * Given 지하철역을 생성하고
+     * When Prometheus 형식의 메트릭을 조회하면
+     * Then 요청, 서비스 메서드, Hibernate, 커넥션 풀 메트릭을 응답받는다
+     */
+    @DisplayName("요청, 서비스, Hibernate, 커넥션 풀 메트릭을 Prometheus 형식으로 조회한다.")
+    @Test
+    void getMetrics() {
+        // given
+        지하철역_생성_요청("강남역");
+
+        // when
+        ExtractableResponse<Response> 메트릭_조회_응답 = RestAssured.given().log().all()
+                .when().get("/actuator/prometheus")
+                .then()
+                .extract();
+
+        // then
+        assertThat(메트릭_조회_응답.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(메트릭_조회_응답.asString())
+                .contains("http_server_requests_seconds_count{exception=\"None\",method=\"POST\"")
+                .contains("subway_service_seconds_count{class=\"nextstep.subway.station.application.StationService\"")
+                .contains("hibernate_query_executions_total")
+                .contains("hikaricp_connections_active");
+    }
+}
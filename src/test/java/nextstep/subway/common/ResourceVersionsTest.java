@@ -0,0 +1,54 @@
+package nextstep.subway.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import nextstep.subway.BaseAcceptanceTest;
+import nextstep.subway.common.application.ResourceVersions;
+import nextstep.subway.common.config.CacheConfig;
+import nextstep.subway.line.domain.LineChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+
+@DisplayName("노선 캐시 무효화")
+public class ResourceVersionsTest extends BaseAcceptanceTest {
+    @Autowired
+    ResourceVersions resourceVersions;
+
+    @Autowired
+    CacheManager cacheManager;
+
+    /**
+     * When 노선을 읽는 동안 다른 요청이 노선을 바꾸고 커밋하면
+     * Then 읽은 값은 돌려주지만 캐시에는 남기지 않는다
+     */
+    @DisplayName("읽는 도중 노선이 바뀌면 읽은 값을 캐시에 남기지 않는다.")
+    @Test
+    void doNotCacheLoadRacingWithChange() {
+        // when
+        String 읽은_노선 = resourceVersions.getOrLoadLines(CacheConfig.LINE, 1L, () -> {
+            resourceVersions.onLineChanged(new LineChangedEvent(1L));
+            return "변경 전 노선";
+        });
+
+        // then
+        assertThat(읽은_노선).isEqualTo("변경 전 노선");
+        assertThat(cacheManager.getCache(CacheConfig.LINE).get(1L)).isNull();
+    }
+
+    /**
+     * When 노선을 읽는 동안 바뀐 것이 없으면
+     * Then 캐시에 넣고 다음 조회는 캐시에서 돌려준다
+     */
+    @DisplayName("읽는 동안 바뀐 것이 없으면 캐시에 넣는다.")
+    @Test
+    void cacheLoad() {
+        // when
+        resourceVersions.getOrLoadLines(CacheConfig.LINE, 1L, () -> "노선");
+        String 다시_읽은_노선 = resourceVersions.getOrLoadLines(CacheConfig.LINE, 1L, () -> "다시 읽으면 안 되는 노선");
+
+        // then
+        assertThat(다시_읽은_노선).isEqualTo("노선");
+    }
+}
@@ -0,0 +1,13 @@
+package nextstep.subway.line;
+
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * 노선 인수 테스트(ETag 304 응답 포함)를 전용 핸들러 풀(async 모드)에서 다시 실행합니다.
+ */
+@DisplayName("지하철 노선 관련 기능 (async)")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "subway.web.execution=async")
+public class AsyncLineAcceptanceTest extends LineAcceptanceTest {
+}
@@ -7,17 +7,27 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 import io.restassured.RestAssured;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import javax.persistence.EntityManagerFactory;
 import nextstep.subway.BaseAcceptanceTest;
 import nextstep.subway.ResponseAssertTest;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 
 @DisplayName("지하철 노선 관련 기능")
 public class LineAcceptanceTest extends BaseAcceptanceTest {
 
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
     /**
      * When 지하철 노선을 생성하면
      * Then 지하철 노선 목록 조회시 생성한 노선을 찾을 수 있다.
@@ -36,6 +46,83 @@ public class LineAcceptanceTest extends BaseAcceptanceTest {
         노선_포함_확인(linesResponse, new String[]{"1호선"});
     }
 
+    /**
+     * Given 4개의 지하철역을 생성하고
+     * When 역 순서와 역 사이 거리로 지하철 노선을 한 번에 생성하면
+     * Then 지하철 노선 조회 시 역이 순서대로 조회된다.
+     */
+    @DisplayName("지하철노선 가져오기")
+    @Test
+    void importLine() {
+        // Given
+        List<Long> stationIds = Arrays.asList(
+                응답_ID(지하철역_생성_요청("신사역")),
+                응답_ID(지하철역_생성_요청("강남역")),
+                응답_ID(지하철역_생성_요청("양재역")),
+                응답_ID(지하철역_생성_요청("판교역")));
+
+        // When
+        ExtractableResponse<Response> 지하철노선_가져오기_응답 = 지하철노선_가져오기_요청("신분당선", "bg-red-600", stationIds, Arrays.asList(5, 3, 8));
+
+        // Then
+        ResponseAssertTest.생성_확인(지하철노선_가져오기_응답);
+        ExtractableResponse<Response> 지하철노선_조회_응답 = 지하철노선_조회_요청(응답_ID(지하철노선_가져오기_응답));
+        assertThat(지하철노선_조회_응답.jsonPath().getList("stations.name", String.class))
+                .containsExactly("신사역", "강남역", "양재역", "판교역");
+    }
+
+    /**
+     * Given 한 역을 함께 지나는 2개의 지하철 노선을 만들고
+     * When 그 역을 지나는 노선을 조회하면
+     * Then 2개의 노선을 응답받고
+     * When 한 노선에만 있는 역을 지나는 노선을 조회하면
+     * Then 그 노선만 응답받는다.
+     */
+    @DisplayName("역을 지나는 지하철노선 조회")
+    @Test
+    void getLinesOfStation() {
+        // Given
+        Long 신사역_ID = 응답_ID(지하철역_생성_요청("신사역"));
+        Long 강남역_ID = 응답_ID(지하철역_생성_요청("강남역"));
+        Long 양재역_ID = 응답_ID(지하철역_생성_요청("양재역"));
+        Long 역삼역_ID = 응답_ID(지하철역_생성_요청("역삼역"));
+        지하철노선_가져오기_요청("신분당선", "bg-red-600", Arrays.asList(신사역_ID, 강남역_ID, 양재역_ID), Arrays.asList(5, 3));
+        지하철노선_가져오기_요청("2호선", "bg-green-600", Arrays.asList(강남역_ID, 역삼역_ID), Arrays.asList(2));
+
+        // When
+        ExtractableResponse<Response> 강남역_노선_조회_응답 = 역을_지나는_지하철노선_조회_요청(강남역_ID);
+
+        // Then
+        ResponseAssertTest.성공_확인(강남역_노선_조회_응답);
+        assertThat(강남역_노선_조회_응답.jsonPath().getList("name", String.class)).containsExactly("신분당선", "2호선");
+
+        // When
+        ExtractableResponse<Response> 역삼역_노선_조회_응답 = 역을_지나는_지하철노선_조회_요청(역삼역_ID);
+
+        // Then
+        assertThat(역삼역_노선_조회_응답.jsonPath().getList("name", String.class)).containsExactly("2호선");
+    }
+
+    /**
+     * Given 지하철역을 생성하고
+     * When 같은 역이 두 번 포함된 지하철 노선을 한 번에 생성하면
+     * Then 400 Bad Request를 응답한다.
+     */
+    @DisplayName("예외 테스트 : 같은 역이 두 번 포함된 지하철노선은 가져올 수 없음")
+    @Test
+    void importLineWithDuplicateStation() {
+        // Given
+        Long 강남역_ID = 응답_ID(지하철역_생성_요청("강남역"));
+        Long 양재역_ID = 응답_ID(지하철역_생성_요청("양재역"));
+
+        // When
+        ExtractableResponse<Response> 지하철노선_가져오기_응답 = 지하철노선_가져오기_요청("신분당선", "bg-red-600",
+                Arrays.asList(강남역_ID, 양재역_ID, 강남역_ID), Arrays.asList(3, 3));
+
+        // Then
+        assertThat(지하철노선_가져오기_응답.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
     /**
      * Given 2개의 지하철 노선을 생성하고
      * When 지하철 노선 목록을 조회하면
@@ -55,6 +142,77 @@ public class LineAcceptanceTest extends BaseAcceptanceTest {
         노선_포함_확인(지하철노선_목록_응답, new String[]{"1호선", "2호선"});
     }
 
+    /**
+     * Given 지하철 노선을 추가로 생성하고
+     * When 지하철 노선 목록을 조회하면
+     * Then 노선 수와 관계없이 같은 수의 쿼리로 조회된다.
+     */
+    @DisplayName("지하철노선 목록 조회 쿼리 수")
+    @Test
+    void getLinesWithConstantQueryCount() {
+        // Given
+        지하철노선_생성_요청("1호선", "bg-blue-600", "강남역", "역삼역", 2);
+        long 노선_1개_쿼리_수 = 지하철노선_목록조회_쿼리_수();
+
+        // Given
+        지하철노선_생성_요청("2호선", "bg-green-600", "신촌역", "이대역", 2);
+        지하철노선_생성_요청("3호선", "bg-orange-600", "교대역", "남부터미널역", 2);
+
+        // When
+        long 노선_3개_쿼리_수 = 지하철노선_목록조회_쿼리_수();
+
+        // Then
+        assertThat(노선_3개_쿼리_수).isEqualTo(노선_1개_쿼리_수);
+    }
+
+    /**
+     * Given 2개의 지하철 노선을 생성하고
+     * When 전체 노선을 내보내면
+     * Then 모든 노선과 역 목록을 응답받는다.
+     */
+    @DisplayName("지하철노선 내보내기")
+    @Test
+    void exportLines() {
+        // Given
+        지하철노선_생성_요청("1호선", "bg-blue-600", "강남역", "역삼역", 2);
+        지하철노선_생성_요청("2호선", "bg-green-600", "신촌역", "이대역", 2);
+
+        // When
+        ExtractableResponse<Response> 지하철노선_내보내기_응답 = RestAssured.given().log().all()
+                .when().get("/lines/export")
+                .then().log().all()
+                .extract();
+
+        // Then
+        ResponseAssertTest.성공_확인(지하철노선_내보내기_응답);
+        노선_포함_확인(지하철노선_내보내기_응답, new String[]{"1호선", "2호선"});
+        assertThat(지하철노선_내보내기_응답.jsonPath().getList("[0].stations.name", String.class))
+                .containsExactly("강남역", "역삼역");
+    }
+
+    /**
+     * Given 지하철 노선을 추가로 생성하고
+     * When 전체 노선을 내보내면
+     * Then 노선 수와 관계없이 같은 수의 쿼리로 내보낸다.
+     */
+    @DisplayName("지하철노선 내보내기 쿼리 수")
+    @Test
+    void exportLinesWithConstantQueryCount() {
+        // Given
+        지하철노선_생성_요청("1호선", "bg-blue-600", "강남역", "역삼역", 2);
+        long 노선_1개_쿼리_수 = 지하철노선_내보내기_쿼리_수();
+
+        // Given
+        지하철노선_생성_요청("2호선", "bg-green-600", "신촌역", "이대역", 2);
+        지하철노선_생성_요청("3호선", "bg-orange-600", "교대역", "남부터미널역", 2);
+
+        // When
+        long 노선_3개_쿼리_수 = 지하철노선_내보내기_쿼리_수();
+
+        // Then
+        assertThat(노선_3개_쿼리_수).isEqualTo(노선_1개_쿼리_수);
+    }
+
     /**
      * Given 지하철 노선을 생성하고
      * When 생성한 지하철 노선을 조회하면
@@ -74,6 +232,99 @@ public class LineAcceptanceTest extends BaseAcceptanceTest {
         노선_정보_확인(지하철노선_조회_응답, 응답_ID(createResponse));
     }
 
+    /**
+     * Given 지하철 노선을 생성하고 조회한 뒤
+     * When 응답받은 ETag 로 다시 조회하면
+     * Then 304 Not Modified 를 응답받는다.
+     */
+    @DisplayName("변경되지 않은 지하철노선은 다시 받지 않는다")
+    @Test
+    void getLineWithETag() {
+        // Given
+        Long id = 응답_ID(지하철노선_생성_요청("1호선", "bg-blue-600", "강남역", "역삼역", 2));
+        ExtractableResponse<Response> 지하철노선_조회_응답 = 지하철노선_조회_요청(id);
+        ExtractableResponse<Response> 지하철노선_목록_응답 = 지하철노선_목록조회_요청();
+
+        // When
+        ExtractableResponse<Response> 조건부_조회_응답 = 조건부_조회_요청("/lines/" + id, 지하철노선_조회_응답.header(HttpHeaders.ETAG));
+        ExtractableResponse<Response> 조건부_목록_조회_응답 = 조건부_조회_요청("/lines", 지하철노선_목록_응답.header(HttpHeaders.ETAG));
+
+        // Then
+        assertThat(지하철노선_조회_응답.header(HttpHeaders.LAST_MODIFIED)).isNotNull();
+        assertThat(조건부_조회_응답.statusCode()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+        assertThat(조건부_목록_조회_응답.statusCode()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+    }
+
+    /**
+     * Given 지하철 노선과 노선 목록을 조회해 ETag 를 받은 뒤 노선과 관계없는 역을 만들면
+     * When 받아 둔 ETag 로 다시 조회하면
+     * Then 304 Not Modified 를 응답받는다.
+     */
+    @DisplayName("역을 만들어도 지하철노선의 ETag 는 바뀌지 않는다")
+    @Test
+    void getLineWithETagAfterStationCreated() {
+        // Given
+        Long id = 응답_ID(지하철노선_생성_요청("1호선", "bg-blue-600", "강남역", "역삼역", 2));
+        String 노선_ETag = 지하철노선_조회_요청(id).header(HttpHeaders.ETAG);
+        String 목록_ETag = 지하철노선_목록조회_요청().header(HttpHeaders.ETAG);
+        지하철역_생성_요청("선릉역");
+
+        // When
+        ExtractableResponse<Response> 조건부_조회_응답 = 조건부_조회_요청("/lines/" + id, 노선_ETag);
+        ExtractableResponse<Response> 조건부_목록_조회_응답 = 조건부_조회_요청("/lines", 목록_ETag);
+
+        // Then
+        assertAll(
+                () -> assertThat(조건부_조회_응답.statusCode()).isEqualTo(HttpStatus.NOT_MODIFIED.value()),
+                () -> assertThat(조건부_목록_조회_응답.statusCode()).isEqualTo(HttpStatus.NOT_MODIFIED.value())
+        );
+    }
+
+    /**
+     * Given 지하철 노선을 조회해 ETag 를 받은 뒤 노선을 수정하고
+     * When 새 ETag 로 다시 조회하면
+     * Then 수정된 지하철 노선 정보를 응답받는다.
+     */
+    @DisplayName("수정된 지하철노선은 새 ETag 와 함께 새 정보를 받는다")
+    @Test
+    void getUpdatedLineWithETag() {
+        // Given
+        Long id = 응답_ID(지하철노선_생성_요청("1호선", "bg-blue-600", "강남역", "역삼역", 2));
+        String 이전_ETag = 지하철노선_조회_요청(id).header(HttpHeaders.ETAG);
+        지하철노선_수정_요청(id, "분당선", "bg-red-600");
+
+        // When
+        ExtractableResponse<Response> 조건부_조회_응답 = 조건부_조회_요청("/lines/" + id, 이전_ETag);
+        ExtractableResponse<Response> 새_ETag_조회_응답 = 조건부_조회_요청("/lines/" + id, 조건부_조회_응답.header(HttpHeaders.ETAG));
+
+        // Then
+        assertAll(
+                () -> assertThat(조건부_조회_응답.statusCode()).isEqualTo(HttpStatus.OK.value()),
+                () -> assertThat(조건부_조회_응답.jsonPath().getString("name")).isEqualTo("분당선"),
+                () -> assertThat(새_ETag_조회_응답.statusCode()).isEqualTo(HttpStatus.NOT_MODIFIED.value())
+        );
+    }
+
+    /**
+     * Given 지하철 노선을 조회해 ETag 를 받은 뒤 노선을 삭제하고
+     * When 받아 둔 ETag 로 다시 조회하면
+     * Then 304 가 아니라 404 를 응답받는다.
+     */
+    @DisplayName("삭제된 지하철노선은 ETag 가 있어도 찾을 수 없다")
+    @Test
+    void getDeletedLineWithETag() {
+        // Given
+        Long id = 응답_ID(지하철노선_생성_요청("1호선", "bg-blue-600", "강남역", "역삼역", 2));
+        String eTag = 지하철노선_조회_요청(id).header(HttpHeaders.ETAG);
+        지하철노선_삭제_요청(id);
+
+        // When
+        ExtractableResponse<Response> 조건부_조회_응답 = 조건부_조회_요청("/lines/" + id, eTag);
+
+        // Then
+        assertThat(조건부_조회_응답.statusCode()).isEqualTo(HttpStatus.NOT_FOUND.value());
+    }
+
     /**
      * Given 지하철 노선을 생성하고
      * When 생성한 지하철 노선을 수정하면
@@ -94,6 +345,27 @@ public class LineAcceptanceTest extends BaseAcceptanceTest {
         지하철노선_수정_확인(id, 지하철노선_수정_응답, "분당선", "bg-red-600");
     }
 
+    /**
+     * Given 지하철 노선을 생성하고 조회한 뒤
+     * When 생성한 지하철 노선을 수정하면
+     * Then 수정된 지하철 노선 정보를 조회할 수 있다.
+     */
+    @DisplayName("조회한 지하철노선 수정")
+    @Test
+    void updateLineAfterRead() {
+        // Given
+        Long id = 응답_ID(지하철노선_생성_요청("1호선", "bg-blue-600", "강남역", "역삼역", 2));
+        지하철노선_조회_요청(id);
+        지하철노선_목록조회_요청();
+
+        // When
+        ExtractableResponse<Response> 지하철노선_수정_응답 = 지하철노선_수정_요청(id, "분당선", "bg-red-600");
+
+        // Then
+        지하철노선_수정_확인(id, 지하철노선_수정_응답, "분당선", "bg-red-600");
+        노선_포함_확인(지하철노선_목록조회_요청(), new String[]{"분당선"});
+    }
+
     /**
      * Given 지하철 노선을 생성하고
      * When 생성한 지하철 노선을 삭제하면
@@ -138,6 +410,21 @@ public class LineAcceptanceTest extends BaseAcceptanceTest {
                 .extract();
     }
 
+    public static ExtractableResponse<Response> 지하철노선_가져오기_요청(String lineName, String color, List<Long> stationIds, List<Integer> distances) {
+        HashMap<String, Object> lineMap = new HashMap<>();
+        lineMap.put("name", lineName);
+        lineMap.put("color", color);
+        lineMap.put("stationIds", stationIds);
+        lineMap.put("distances", distances);
+
+        return RestAssured.given().log().all()
+                .body(lineMap)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().post("/lines/import")
+                .then().log().all()
+                .extract();
+    }
+
     private ExtractableResponse<Response> 지하철노선_목록조회_요청() {
         return RestAssured.given().log().all()
                 .contentType(MediaType.APPLICATION_JSON_VALUE)
@@ -146,7 +433,35 @@ public class LineAcceptanceTest extends BaseAcceptanceTest {
                 .extract();
     }
 
-    private ExtractableResponse<Response> 지하철노선_조회_요청(Long lineId) {
+    private ExtractableResponse<Response> 역을_지나는_지하철노선_조회_요청(Long stationId) {
+        return RestAssured.given().log().all()
+                .when().get("/stations/{stationId}/lines", stationId)
+                .then().log().all()
+                .extract();
+    }
+
+    private long 지하철노선_목록조회_쿼리_수() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        ResponseAssertTest.성공_확인(지하철노선_목록조회_요청());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private long 지하철노선_내보내기_쿼리_수() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        ResponseAssertTest.성공_확인(RestAssured.given().log().all()
+                .when().get("/lines/export")
+                .then().log().all()
+                .extract());
+        return statistics.getPrepareStatementCount();
+    }
+
+    public static ExtractableResponse<Response> 지하철노선_조회_요청(Long lineId) {
         return RestAssured.given().log().all()
                 .contentType(MediaType.APPLICATION_JSON_VALUE)
                 .when().get("/lines/" + lineId)
@@ -154,6 +469,14 @@ public class LineAcceptanceTest extends BaseAcceptanceTest {
                 .extract();
     }
 
+    private ExtractableResponse<Response> 조건부_조회_요청(String path, String eTag) {
+        return RestAssured.given().log().all()
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .when().get(path)
+                .then().log().all()
+                .extract();
+    }
+
     private void 노선_포함_확인(ExtractableResponse<Response> linesResponse, String[] lineNames) {
         assertAll(
                 () -> {
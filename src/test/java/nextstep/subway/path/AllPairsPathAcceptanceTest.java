@@ -0,0 +1,81 @@
+package nextstep.subway.path;
+
+import static nextstep.subway.station.StationAcceptanceTest.지하철역_생성_요청;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import java.util.Arrays;
+import java.util.List;
+import nextstep.subway.path.domain.Path;
+import nextstep.subway.path.domain.PathGraph;
+import nextstep.subway.section.domain.SectionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * 경로 인수 테스트를 모든 역 쌍을 미리 계산하는 방식(all-pairs)으로 다시 실행하고,
+ * 구간이 바뀌어 표를 다시 만든 뒤에도 다익스트라와 같은 경로를 돌려주는지 확인합니다.
+ */
+@DisplayName("지하철 경로 조회 기능 (all-pairs)")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "subway.path.mode=all-pairs")
+public class AllPairsPathAcceptanceTest extends PathAcceptanceTest {
+    @Autowired
+    SectionRepository sectionRepository;
+
+    /**
+     * When 모든 역 쌍의 경로를 조회하면
+     * Then 다익스트라로 찾은 경로, 거리와 같고
+     * When 구간을 등록하고 역을 제거한 뒤 다시 조회하면
+     * Then 바뀐 노선으로 다익스트라로 찾은 경로, 거리와 같다
+     */
+    @DisplayName("구간이 바뀌어도 다익스트라와 같은 경로를 응답한다.")
+    @Test
+    void sameAsDijkstraAfterSectionChanges() {
+        // when, then
+        List<Long> 역_ID = Arrays.asList(교대역_ID, 강남역_ID, 양재역_ID, 남부터미널역_ID);
+        모든_경로가_다익스트라와_같음(역_ID);
+
+        // when
+        Long 신규역_ID = 응답_ID(지하철역_생성_요청("신규역"));
+        지하철_노선에_구간_등록_요청(삼호선_ID, 남부터미널역_ID, 신규역_ID, 1);
+
+        // then
+        역_ID = Arrays.asList(교대역_ID, 강남역_ID, 양재역_ID, 남부터미널역_ID, 신규역_ID);
+        모든_경로가_다익스트라와_같음(역_ID);
+        assertThat(경로_조회_요청(교대역_ID, 신규역_ID).jsonPath().getInt("distance")).isEqualTo(3);
+
+        // when
+        RestAssured.given().log().all()
+                .queryParam("stationId", 남부터미널역_ID)
+                .when().delete("/lines/{lineId}/stations", 삼호선_ID)
+                .then().log().all();
+
+        // then
+        역_ID = Arrays.asList(교대역_ID, 강남역_ID, 양재역_ID, 신규역_ID);
+        모든_경로가_다익스트라와_같음(역_ID);
+        assertThat(경로_조회_요청(교대역_ID, 양재역_ID).jsonPath().getList("stations.id", Long.class))
+                .containsExactly(교대역_ID, 신규역_ID, 양재역_ID);
+    }
+
+    private void 모든_경로가_다익스트라와_같음(List<Long> stationIds) {
+        PathGraph dijkstra = PathGraph.of(sectionRepository.findAllEdges());
+        for (Long source : stationIds) {
+            for (Long target : stationIds) {
+                if (source.equals(target)) {
+                    continue;
+                }
+                Path expected = dijkstra.findShortestPath(source, target);
+                ExtractableResponse<Response> 경로_조회_응답 = 경로_조회_요청(source, target);
+
+                assertThat(경로_조회_응답.jsonPath().getInt("distance")).isEqualTo(expected.getDistance());
+                assertThat(경로_조회_응답.jsonPath().getList("stations.id", Long.class))
+                        .containsExactlyElementsOf(expected.getStationIds());
+            }
+        }
+    }
+}
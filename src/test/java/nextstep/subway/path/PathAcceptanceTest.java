@@ -0,0 +1,157 @@
+package nextstep.subway.path;
+
+import static nextstep.subway.station.StationAcceptanceTest.지하철역_생성_요청;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import java.util.HashMap;
+import nextstep.subway.BaseAcceptanceTest;
+import nextstep.subway.ResponseAssertTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+@DisplayName("지하철 경로 조회 기능")
+public class PathAcceptanceTest extends BaseAcceptanceTest {
+
+    Long 교대역_ID;
+    Long 강남역_ID;
+    Long 양재역_ID;
+    Long 남부터미널역_ID;
+    Long 삼호선_ID;
+
+    /**
+     * 교대역    --- *2호선*(10) ---   강남역
+     * |                                |
+     * *3호선*(2)                    *신분당선*(10)
+     * |                                |
+     * 남부터미널역  --- *3호선*(3) ---   양재역
+     */
+    @BeforeEach
+    public void setUp() {
+        super.setUp();
+
+        교대역_ID = 응답_ID(지하철역_생성_요청("교대역"));
+        강남역_ID = 응답_ID(지하철역_생성_요청("강남역"));
+        양재역_ID = 응답_ID(지하철역_생성_요청("양재역"));
+        남부터미널역_ID = 응답_ID(지하철역_생성_요청("남부터미널역"));
+
+        지하철노선_생성_요청("2호선", "bg-green-600", 교대역_ID, 강남역_ID, 10);
+        지하철노선_생성_요청("신분당선", "bg-red-600", 강남역_ID, 양재역_ID, 10);
+        삼호선_ID = 응답_ID(지하철노선_생성_요청("3호선", "bg-orange-600", 교대역_ID, 양재역_ID, 5));
+        지하철_노선에_구간_등록_요청(삼호선_ID, 교대역_ID, 남부터미널역_ID, 2);
+    }
+
+    /**
+     * When 출발역과 도착역으로 경로를 조회하면
+     * Then 최단 거리 경로의 역 목록과 거리를 응답받는다.
+     */
+    @DisplayName("최단 경로를 조회한다.")
+    @Test
+    void findPath() {
+        // When
+        ExtractableResponse<Response> 경로_조회_응답 = 경로_조회_요청(교대역_ID, 양재역_ID);
+
+        // Then
+        경로_확인(경로_조회_응답, 5, "교대역", "남부터미널역", "양재역");
+    }
+
+    /**
+     * Given 경로를 한 번 조회하고
+     * When 경로에 포함된 노선을 삭제한 뒤 다시 조회하면
+     * Then 남은 노선으로 만든 경로를 응답받는다.
+     */
+    @DisplayName("노선이 삭제되면 경로를 다시 계산한다.")
+    @Test
+    void findPathAfterLineDeleted() {
+        // Given
+        경로_조회_요청(교대역_ID, 양재역_ID);
+
+        // When
+        RestAssured.given().log().all()
+                .when().delete("/lines/" + 삼호선_ID)
+                .then().log().all();
+        ExtractableResponse<Response> 경로_조회_응답 = 경로_조회_요청(교대역_ID, 양재역_ID);
+
+        // Then
+        경로_확인(경로_조회_응답, 20, "교대역", "강남역", "양재역");
+    }
+
+    /**
+     * When 출발역과 도착역을 같게 조회하면
+     * Then 400 Bad Request를 응답한다.
+     */
+    @DisplayName("예외 테스트 : 출발역과 도착역이 같으면 조회할 수 없음")
+    @Test
+    void findPathWithSameStations() {
+        // When
+        ExtractableResponse<Response> 경로_조회_응답 = 경로_조회_요청(교대역_ID, 교대역_ID);
+
+        // Then
+        assertThat(경로_조회_응답.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    /**
+     * When 어느 노선에도 등록되지 않은 역으로 조회하면
+     * Then 400 Bad Request를 응답한다.
+     */
+    @DisplayName("예외 테스트 : 노선에 등록되지 않은 역은 조회할 수 없음")
+    @Test
+    void findPathWithUnregisteredStation() {
+        // When
+        Long 신규역_ID = 응답_ID(지하철역_생성_요청("신규역"));
+        ExtractableResponse<Response> 경로_조회_응답 = 경로_조회_요청(교대역_ID, 신규역_ID);
+
+        // Then
+        assertThat(경로_조회_응답.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    private void 경로_확인(ExtractableResponse<Response> response, int distance, String... stationNames) {
+        ResponseAssertTest.성공_확인(response);
+        assertThat(response.jsonPath().getList("stations.name", String.class)).containsExactly(stationNames);
+        assertThat(response.jsonPath().getInt("distance")).isEqualTo(distance);
+    }
+
+    protected ExtractableResponse<Response> 경로_조회_요청(Long source, Long target) {
+        return RestAssured.given().log().all()
+                .queryParam("source", source)
+                .queryParam("target", target)
+                .when().get("/paths")
+                .then().log().all()
+                .extract();
+    }
+
+    private ExtractableResponse<Response> 지하철노선_생성_요청(String name, String color, Long upStationId, Long downStationId, int distance) {
+        HashMap<String, Object> params = new HashMap<>();
+        params.put("name", name);
+        params.put("color", color);
+        params.put("upStationId", upStationId);
+        params.put("downStationId", downStationId);
+        params.put("distance", distance);
+
+        return RestAssured.given().log().all()
+                .body(params)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().post("/lines")
+                .then().log().all()
+                .extract();
+    }
+
+    protected ExtractableResponse<Response> 지하철_노선에_구간_등록_요청(Long lineId, Long upStationId, Long downStationId, int distance) {
+        HashMap<String, Object> params = new HashMap<>();
+        params.put("upStationId", upStationId);
+        params.put("downStationId", downStationId);
+        params.put("distance", distance);
+
+        return RestAssured.given().log().all()
+                .body(params)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().post("/lines/{lineId}/stations", lineId)
+                .then().log().all()
+                .extract();
+    }
+}
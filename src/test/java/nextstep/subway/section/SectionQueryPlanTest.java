@@ -0,0 +1,136 @@
+package nextstep.subway.section;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import nextstep.subway.BaseAcceptanceTest;
+import nextstep.subway.line.domain.LineRepository;
+import nextstep.subway.section.domain.SectionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 저장소 메서드가 실제로 만든 SQL 과 바인딩 값을 datasource-proxy 로 받아 그대로 실행 계획을 확인합니다.
+ */
+@DisplayName("구간 조회 쿼리 실행 계획")
+@Import(SectionQueryPlanTest.QueryCaptureConfig.class)
+public class SectionQueryPlanTest extends BaseAcceptanceTest {
+    private static final QueryCapture QUERY_CAPTURE = new QueryCapture();
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    SectionRepository sectionRepository;
+
+    @Autowired
+    LineRepository lineRepository;
+
+    @DisplayName("노선의 구간은 노선 인덱스로 조회한다.")
+    @Test
+    void findSectionsOfLine() {
+        String plan = 실행_계획(() -> lineRepository.findWithStationsById(1L));
+
+        assertThat(plan).containsPattern("IX_SECTION_LINE_(UP|DOWN)_STATION");
+    }
+
+    @DisplayName("역이 구간에 쓰이는지는 역 인덱스로 확인한다.")
+    @Test
+    void existsSectionOfStation() {
+        assertThat(실행_계획(() -> sectionRepository.existsByUpStation_Id(1L)))
+                .contains("IX_SECTION_UP_STATION");
+        assertThat(실행_계획(() -> sectionRepository.existsByDownStation_Id(1L)))
+                .contains("IX_SECTION_DOWN_STATION");
+    }
+
+    @DisplayName("역을 지나는 노선은 노선마다 노선, 역 복합 인덱스로 확인한다.")
+    @Test
+    void findLinesOfStation() {
+        String plan = 실행_계획(() -> lineRepository.findSummariesByStationId(1L));
+
+        assertThat(plan).doesNotContain("SECTION.tableScan");
+        assertThat(plan).contains("IX_SECTION_LINE_UP_STATION", "IX_SECTION_LINE_DOWN_STATION");
+    }
+
+    private String 실행_계획(Runnable query) {
+        QueryInfo queryInfo = QUERY_CAPTURE.lastSelect(query);
+        return jdbcTemplate.queryForObject("explain " + queryInfo.getQuery(), String.class, 바인딩_값(queryInfo));
+    }
+
+    private Object[] 바인딩_값(QueryInfo queryInfo) {
+        if (queryInfo.getParametersList().isEmpty()) {
+            return new Object[0];
+        }
+        return queryInfo.getParametersList().get(0).stream()
+                .sorted(Comparator.comparing(operation -> (Integer) operation.getArgs()[0]))
+                .map(operation -> operation.getArgs()[1])
+                .toArray();
+    }
+
+    @TestConfiguration
+    static class QueryCaptureConfig {
+        @Bean
+        static BeanPostProcessor queryCapturePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource)) {
+                        return bean;
+                    }
+                    return ProxyDataSourceBuilder.create((DataSource) bean)
+                            .listener(QUERY_CAPTURE)
+                            .build();
+                }
+            };
+        }
+    }
+
+    /**
+     * 기록을 켠 동안 실행된 SQL 만 모읍니다. 실행 계획을 확인하는 EXPLAIN 은 기록을 끈 뒤에 실행합니다.
+     */
+    static class QueryCapture implements QueryExecutionListener {
+        private final List<QueryInfo> queries = new CopyOnWriteArrayList<>();
+        private volatile boolean recording;
+
+        synchronized QueryInfo lastSelect(Runnable query) {
+            queries.clear();
+            recording = true;
+            try {
+                query.run();
+            } finally {
+                recording = false;
+            }
+
+            List<QueryInfo> selects = queries.stream()
+                    .filter(queryInfo -> queryInfo.getQuery().trim().toLowerCase().startsWith("select"))
+                    .collect(Collectors.toList());
+            assertThat(selects).isNotEmpty();
+            return selects.get(selects.size() - 1);
+        }
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            if (recording) {
+                queries.addAll(queryInfoList);
+            }
+        }
+    }
+}
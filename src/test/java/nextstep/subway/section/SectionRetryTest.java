@@ -0,0 +1,149 @@
+package nextstep.subway.section;
+
+import static nextstep.subway.line.LineAcceptanceTest.지하철노선_가져오기_요청;
+import static nextstep.subway.line.LineAcceptanceTest.지하철노선_조회_요청;
+import static nextstep.subway.station.StationAcceptanceTest.지하철역_생성_요청;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import nextstep.subway.BaseAcceptanceTest;
+import nextstep.subway.common.config.RetryConfig;
+import nextstep.subway.line.domain.LineChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 같은 노선의 쓰기는 LineWriteLocks 로 한 줄로 서므로 병렬 요청만으로는 낙관적 락 충돌이 나지 않습니다.
+ * 커밋 직전에 락 밖의 다른 커넥션으로 노선 버전을 올려 충돌을 만들고 재시도가 이를 복구하는지 확인합니다.
+ */
+@DisplayName("구간 변경 충돌 재시도")
+@Import(SectionRetryTest.VersionConflictInjector.class)
+public class SectionRetryTest extends BaseAcceptanceTest {
+    @Autowired
+    VersionConflictInjector versionConflictInjector;
+
+    Long 강남역_ID;
+    Long 양재역_ID;
+    Long 신분당선_ID;
+
+    @BeforeEach
+    public void setUp() {
+        super.setUp();
+        강남역_ID = 응답_ID(지하철역_생성_요청("강남역"));
+        양재역_ID = 응답_ID(지하철역_생성_요청("양재역"));
+        Long 판교역_ID = 응답_ID(지하철역_생성_요청("판교역"));
+        신분당선_ID = 응답_ID(지하철노선_가져오기_요청("신분당선", "bg-red-600",
+                Arrays.asList(강남역_ID, 판교역_ID), Arrays.asList(10)));
+    }
+
+    /**
+     * Given 구간을 등록하는 트랜잭션이 커밋되기 직전에 다른 쓰기가 노선 버전을 올리도록 하고
+     * When 구간을 등록하면
+     * Then 재시도 횟수 안에서 다시 시도해 구간이 등록된다
+     */
+    @DisplayName("커밋 직전에 노선 버전이 바뀌어도 다시 시도해 구간을 등록한다.")
+    @Test
+    void retryAfterVersionConflict() {
+        // given
+        int 충돌_수 = RetryConfig.MAX_ATTEMPTS - 1;
+        versionConflictInjector.inject(신분당선_ID, 충돌_수);
+
+        // when
+        ExtractableResponse<Response> 구간_등록_응답 = 구간_등록_요청(신분당선_ID, 강남역_ID, 양재역_ID, 4);
+
+        // then
+        assertThat(구간_등록_응답.statusCode()).isEqualTo(HttpStatus.CREATED.value());
+        assertThat(versionConflictInjector.injected()).isEqualTo(충돌_수);
+        assertThat(지하철노선_조회_요청(신분당선_ID).jsonPath().getList("stations.name", String.class))
+                .containsExactly("강남역", "양재역", "판교역");
+    }
+
+    /**
+     * Given 재시도할 때마다 다른 쓰기가 노선 버전을 올리도록 하고
+     * When 구간을 등록하면
+     * Then 409 Conflict 를 응답하고 노선은 그대로다
+     */
+    @DisplayName("재시도 횟수를 넘겨 충돌하면 409 를 응답한다.")
+    @Test
+    void conflictAfterMaxAttempts() {
+        // given
+        versionConflictInjector.inject(신분당선_ID, RetryConfig.MAX_ATTEMPTS);
+
+        // when
+        ExtractableResponse<Response> 구간_등록_응답 = 구간_등록_요청(신분당선_ID, 강남역_ID, 양재역_ID, 4);
+
+        // then
+        assertThat(구간_등록_응답.statusCode()).isEqualTo(HttpStatus.CONFLICT.value());
+        assertThat(versionConflictInjector.injected()).isEqualTo(RetryConfig.MAX_ATTEMPTS);
+        assertThat(지하철노선_조회_요청(신분당선_ID).jsonPath().getList("stations.name", String.class))
+                .containsExactly("강남역", "판교역");
+    }
+
+    private ExtractableResponse<Response> 구간_등록_요청(Long lineId, Long upStationId, Long downStationId, int distance) {
+        HashMap<String, Object> params = new HashMap<>();
+        params.put("upStationId", upStationId);
+        params.put("downStationId", downStationId);
+        params.put("distance", distance);
+
+        return RestAssured.given().log().all()
+                .body(params)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().post("/lines/{lineId}/stations", lineId)
+                .then().log().all()
+                .extract();
+    }
+
+    static class VersionConflictInjector {
+        private final DataSource dataSource;
+        private final AtomicInteger remaining = new AtomicInteger();
+        private final AtomicInteger injected = new AtomicInteger();
+        private volatile Long lineId;
+
+        VersionConflictInjector(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        void inject(Long lineId, int times) {
+            this.lineId = lineId;
+            remaining.set(times);
+            injected.set(0);
+        }
+
+        int injected() {
+            return injected.get();
+        }
+
+        @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+        public void bumpVersion(LineChangedEvent event) throws SQLException {
+            if (lineId == null || !lineId.equals(event.getLineId()) || remaining.getAndDecrement() <= 0) {
+                return;
+            }
+            // 트랜잭션에 묶이지 않은 별도 커넥션으로 바로 커밋합니다.
+            try (Connection connection = dataSource.getConnection();
+                 PreparedStatement statement = connection.prepareStatement("update line set version = version + 1 where id = ?")) {
+                statement.setLong(1, lineId);
+                statement.executeUpdate();
+                if (!connection.getAutoCommit()) {
+                    connection.commit();
+                }
+            }
+            injected.incrementAndGet();
+        }
+    }
+}
@@ -1,20 +1,38 @@
 package nextstep.subway.station;
 
+import static nextstep.subway.line.LineAcceptanceTest.지하철노선_가져오기_요청;
+import static nextstep.subway.line.LineAcceptanceTest.지하철노선_조회_요청;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.restassured.RestAssured;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import nextstep.subway.BaseAcceptanceTest;
+import nextstep.subway.common.exception.ConflictException;
+import nextstep.subway.station.application.StationService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 
 @DisplayName("지하철역 관련 기능")
 public class StationAcceptanceTest extends BaseAcceptanceTest {
+    @Autowired
+    StationService stationService;
 
     /**
      * When 지하철역을 생성하면
@@ -89,6 +107,232 @@ public class StationAcceptanceTest extends BaseAcceptanceTest {
         assertThat(지하철역_조회_요청("강남역")).isEmpty();
     }
 
+    /**
+     * Given 지하철역이 등록된 노선을 만들고
+     * When 그 지하철역을 삭제하면
+     * Then 409 Conflict를 응답하고 지하철역은 남아 있다
+     */
+    @DisplayName("노선에 등록된 지하철역은 제거할 수 없다.")
+    @Test
+    void deleteStationInLine() {
+        // given
+        Long 강남역_ID = 응답_ID(지하철역_생성_요청("강남역"));
+        Long 양재역_ID = 응답_ID(지하철역_생성_요청("양재역"));
+        Long 판교역_ID = 응답_ID(지하철역_생성_요청("판교역"));
+        지하철노선_가져오기_요청("신분당선", "bg-red-600", Arrays.asList(강남역_ID, 양재역_ID, 판교역_ID), Arrays.asList(4, 8));
+
+        // when
+        ExtractableResponse<Response> 지하철역_삭제_응답 = 지하철역_삭제_요청(양재역_ID, false);
+
+        // then
+        assertThat(지하철역_삭제_응답.statusCode()).isEqualTo(HttpStatus.CONFLICT.value());
+        assertThat(지하철역_이름_목록_조회_요청()).contains("양재역");
+    }
+
+    /**
+     * Given 지하철역이 등록된 노선을 만들고
+     * When 노선에서도 빼도록 지정해 그 지하철역을 삭제하면
+     * Then 노선은 앞뒤 역이 이어진 채로 남고 지하철역은 제거된다
+     */
+    @DisplayName("노선에서 빼면서 지하철역을 제거한다.")
+    @Test
+    void deleteStationFromLines() {
+        // given
+        Long 강남역_ID = 응답_ID(지하철역_생성_요청("강남역"));
+        Long 양재역_ID = 응답_ID(지하철역_생성_요청("양재역"));
+        Long 판교역_ID = 응답_ID(지하철역_생성_요청("판교역"));
+        Long 신분당선_ID = 응답_ID(지하철노선_가져오기_요청("신분당선", "bg-red-600",
+                Arrays.asList(강남역_ID, 양재역_ID, 판교역_ID), Arrays.asList(4, 8)));
+
+        // when
+        ExtractableResponse<Response> 지하철역_삭제_응답 = 지하철역_삭제_요청(양재역_ID, true);
+
+        // then
+        assertThat(지하철역_삭제_응답.statusCode()).isEqualTo(HttpStatus.NO_CONTENT.value());
+        assertThat(지하철역_이름_목록_조회_요청()).containsExactly("강남역", "판교역");
+        assertThat(지하철노선_조회_요청(신분당선_ID).jsonPath().getList("stations.name", String.class))
+                .containsExactly("강남역", "판교역");
+    }
+
+    /**
+     * Given 지하철역이 구간이 둘인 노선과 구간이 하나뿐인 노선에 등록되어 있고
+     * When 노선에서도 빼도록 지정해 그 지하철역을 삭제하면
+     * Then 409 Conflict를 응답하고 지하철역과 두 노선은 그대로 남아 있다
+     */
+    @DisplayName("구간이 하나뿐인 노선에 등록된 지하철역은 노선에서 빼면서 제거할 수 없다.")
+    @Test
+    void deleteStationFromSingleSectionLine() {
+        // given
+        Long 강남역_ID = 응답_ID(지하철역_생성_요청("강남역"));
+        Long 양재역_ID = 응답_ID(지하철역_생성_요청("양재역"));
+        Long 판교역_ID = 응답_ID(지하철역_생성_요청("판교역"));
+        Long 남부터미널역_ID = 응답_ID(지하철역_생성_요청("남부터미널역"));
+        Long 신분당선_ID = 응답_ID(지하철노선_가져오기_요청("신분당선", "bg-red-600",
+                Arrays.asList(강남역_ID, 양재역_ID, 판교역_ID), Arrays.asList(4, 8)));
+        Long 삼호선_ID = 응답_ID(지하철노선_가져오기_요청("3호선", "bg-orange-600",
+                Arrays.asList(남부터미널역_ID, 양재역_ID), Arrays.asList(3)));
+
+        // when
+        ExtractableResponse<Response> 지하철역_삭제_응답 = 지하철역_삭제_요청(양재역_ID, true);
+
+        // then
+        assertThat(지하철역_삭제_응답.statusCode()).isEqualTo(HttpStatus.CONFLICT.value());
+        assertThat(지하철역_이름_목록_조회_요청()).contains("양재역");
+        assertThat(지하철노선_조회_요청(신분당선_ID).jsonPath().getList("stations.name", String.class))
+                .containsExactly("강남역", "양재역", "판교역");
+        assertThat(지하철노선_조회_요청(삼호선_ID).jsonPath().getList("stations.name", String.class))
+                .containsExactly("남부터미널역", "양재역");
+    }
+
+    /**
+     * Given 지하철역이 등록된 노선이 있지만 노선 쓰기 락은 그 노선을 찾기 전에 잡았다면
+     * When 락을 잡은 노선 목록으로 노선에서 빼면서 지하철역을 제거하면
+     * Then 락 없이 노선을 바꾸지 않도록 409 로 거절하고 지하철역과 노선은 그대로 남아 있다
+     */
+    @DisplayName("락을 잡은 뒤 지하철역이 다른 노선에 등록되었으면 노선에서 빼면서 제거하지 않는다.")
+    @Test
+    void deleteStationFromLinesChangedAfterLocking() {
+        // given
+        Long 강남역_ID = 응답_ID(지하철역_생성_요청("강남역"));
+        Long 양재역_ID = 응답_ID(지하철역_생성_요청("양재역"));
+        Long 판교역_ID = 응답_ID(지하철역_생성_요청("판교역"));
+        Long 신분당선_ID = 응답_ID(지하철노선_가져오기_요청("신분당선", "bg-red-600",
+                Arrays.asList(강남역_ID, 양재역_ID, 판교역_ID), Arrays.asList(4, 8)));
+
+        // when
+        assertThatThrownBy(() -> stationService.deleteStationFromLines(양재역_ID, Collections.emptyList()))
+                .isInstanceOf(ConflictException.class);
+
+        // then
+        assertThat(지하철역_이름_목록_조회_요청()).contains("양재역");
+        assertThat(지하철노선_조회_요청(신분당선_ID).jsonPath().getList("stations.name", String.class))
+                .containsExactly("강남역", "양재역", "판교역");
+    }
+
+    /**
+     * Given 지하철역 목록을 조회하고
+     * When 응답받은 ETag 로 다시 조회하면
+     * Then 304 Not Modified 를 응답받고
+     * When 지하철역을 생성한 뒤 같은 ETag 로 조회하면
+     * Then 새로운 지하철역 목록을 응답받는다
+     */
+    @DisplayName("변경되지 않은 지하철역 목록은 다시 받지 않는다.")
+    @Test
+    void getStationsWithETag() {
+        // given
+        지하철역_생성_요청("강남역");
+        String eTag = RestAssured.given().log().all()
+                .when().get("/stations")
+                .then().log().all()
+                .extract().header(HttpHeaders.ETAG);
+
+        // when
+        ExtractableResponse<Response> 조건부_조회_응답 = 지하철역_조건부_조회_요청(eTag);
+
+        // then
+        assertThat(조건부_조회_응답.statusCode()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+
+        // when
+        지하철역_생성_요청("양재역");
+        ExtractableResponse<Response> 변경_후_조건부_조회_응답 = 지하철역_조건부_조회_요청(eTag);
+
+        // then
+        assertThat(변경_후_조건부_조회_응답.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(변경_후_조건부_조회_응답.jsonPath().getList("name", String.class)).contains("강남역", "양재역");
+    }
+
+    /**
+     * Given 3개의 지하철역을 생성하고
+     * When 2개씩 지하철역 목록을 조회하면
+     * Then 첫 페이지와 다음 페이지 링크를 응답받고
+     * When 다음 페이지를 조회하면
+     * Then 남은 지하철역을 응답받는다
+     */
+    @DisplayName("지하철역 목록을 나누어 조회한다.")
+    @Test
+    void getStationsByCursor() {
+        // given
+        지하철역_생성_요청("강남역");
+        지하철역_생성_요청("양재역");
+        지하철역_생성_요청("판교역");
+
+        // when
+        ExtractableResponse<Response> 첫_페이지_응답 = 지하철역_페이지_조회_요청(null, 2);
+
+        // then
+        assertThat(첫_페이지_응답.jsonPath().getList("name", String.class)).containsExactly("강남역", "양재역");
+        assertThat(첫_페이지_응답.header(HttpHeaders.LINK)).contains("rel=\"next\"");
+
+        // when
+        Long 다음_커서 = 첫_페이지_응답.jsonPath().getLong("[1].id");
+        ExtractableResponse<Response> 다음_페이지_응답 = 지하철역_페이지_조회_요청(다음_커서, 2);
+
+        // then
+        assertThat(다음_페이지_응답.jsonPath().getList("name", String.class)).containsExactly("판교역");
+        assertThat(다음_페이지_응답.header(HttpHeaders.LINK)).isNull();
+    }
+
+    /**
+     * Given 지하철역을 생성하고
+     * When 이미 존재하거나 중복된 이름을 포함한 지하철역 목록을 한 번에 생성하면
+     * Then 중복되지 않은 지하철역만 생성되고 중복된 항목은 실패 목록으로 응답받는다
+     */
+    @DisplayName("지하철역을 한 번에 생성한다.")
+    @Test
+    void createStations() {
+        // given
+        지하철역_생성_요청("강남역");
+
+        // when
+        List<HashMap<Object, Object>> params = Arrays.asList(
+                createParam("강남역"), createParam("양재역"), createParam("양재역"), createParam("판교역"));
+        ExtractableResponse<Response> 지하철역_일괄_생성_응답 = RestAssured.given().log().all()
+                .body(params)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().post("/stations/bulk")
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(지하철역_일괄_생성_응답.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(지하철역_일괄_생성_응답.jsonPath().getList("stations.name", String.class)).containsExactly("양재역", "판교역");
+        assertThat(지하철역_일괄_생성_응답.jsonPath().getList("failures.index", Integer.class)).containsExactly(0, 2);
+        assertThat(지하철역_이름_목록_조회_요청()).containsExactly("강남역", "양재역", "판교역");
+    }
+
+    /**
+     * When 같은 이름들로 지하철역 일괄 생성을 동시에 여러 번 요청하면
+     * Then 각 요청은 성공하거나 409 Conflict를 응답하고 400 으로 실패하지 않는다
+     * Then 같은 이름의 지하철역은 하나씩만 생성된다
+     */
+    @DisplayName("같은 이름의 지하철역을 동시에 한 번에 생성해도 중복 생성되지 않는다.")
+    @Test
+    void createStationsConcurrently() throws Exception {
+        // when
+        List<HashMap<Object, Object>> params = IntStream.range(0, 100)
+                .mapToObj(i -> createParam("동시역" + i))
+                .collect(Collectors.toList());
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        List<Future<Integer>> 응답_코드 = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            응답_코드.add(executorService.submit(() -> RestAssured.given()
+                    .body(params)
+                    .contentType(MediaType.APPLICATION_JSON_VALUE)
+                    .when().post("/stations/bulk")
+                    .then()
+                    .extract().statusCode()));
+        }
+
+        // then
+        for (Future<Integer> future : 응답_코드) {
+            assertThat(future.get()).isIn(HttpStatus.OK.value(), HttpStatus.CONFLICT.value());
+        }
+        executorService.shutdown();
+        List<String> 역_이름_목록 = 지하철역_이름_목록_조회_요청();
+        assertThat(역_이름_목록).hasSize(params.size());
+        assertThat(new HashSet<>(역_이름_목록)).hasSize(params.size());
+    }
+
     public static ExtractableResponse<Response> 지하철역_생성_요청(String name){
         return RestAssured.given().log().all()
                 .body(createParam(name))
@@ -113,12 +357,42 @@ public class StationAcceptanceTest extends BaseAcceptanceTest {
                 .extract().jsonPath().getList("name", String.class);
     }
 
+    private static ExtractableResponse<Response> 지하철역_페이지_조회_요청(Long after, int size) {
+        HashMap<String, Object> params = new HashMap<>();
+        if (after != null) {
+            params.put("after", after);
+        }
+        params.put("size", size);
+
+        return RestAssured.given().log().all()
+                .queryParams(params)
+                .when().get("/stations")
+                .then().log().all()
+                .extract();
+    }
+
+    private static ExtractableResponse<Response> 지하철역_조건부_조회_요청(String eTag) {
+        return RestAssured.given().log().all()
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .when().get("/stations")
+                .then().log().all()
+                .extract();
+    }
+
     private void 지하철역_삭제_요청(long id) {
         RestAssured.given().log().all()
                 .when().delete("/stations/" + id)
                 .then().log().all();
     }
 
+    private ExtractableResponse<Response> 지하철역_삭제_요청(long id, boolean cascade) {
+        return RestAssured.given().log().all()
+                .queryParam("cascade", cascade)
+                .when().delete("/stations/" + id)
+                .then().log().all()
+                .extract();
+    }
+
     private static HashMap<Object, Object> createParam(String name) {
         HashMap<Object, Object> params = new HashMap<>();
         params.put("name", name);
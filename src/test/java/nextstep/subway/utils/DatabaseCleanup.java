@@ -1,13 +1,20 @@
 package nextstep.subway.utils;
 
 import com.google.common.base.CaseFormat;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 import javax.persistence.Entity;
 import javax.persistence.EntityManager;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
 import javax.persistence.PersistenceContext;
 import javax.transaction.Transactional;
+import nextstep.subway.line.domain.LineChangedEvent;
+import nextstep.subway.station.domain.StationChangedEvent;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.test.context.ActiveProfiles;
 
@@ -17,7 +24,16 @@ public class DatabaseCleanup implements InitializingBean {
     @PersistenceContext
     private EntityManager entityManager;
 
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheManager cacheManager;
+
     private List<String> tableNames;
+    private List<String> identityTableNames;
+
+    public DatabaseCleanup(ApplicationEventPublisher eventPublisher, CacheManager cacheManager) {
+        this.eventPublisher = eventPublisher;
+        this.cacheManager = cacheManager;
+    }
 
     @Override
     public void afterPropertiesSet() {
@@ -25,6 +41,18 @@ public class DatabaseCleanup implements InitializingBean {
                 .filter(e -> e.getJavaType().getAnnotation(Entity.class) != null)
                 .map(e -> CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_UNDERSCORE, e.getName()))
                 .collect(Collectors.toList());
+        identityTableNames = entityManager.getMetamodel().getEntities().stream()
+                .filter(e -> e.getJavaType().getAnnotation(Entity.class) != null)
+                .filter(e -> usesIdentity(e.getJavaType()))
+                .map(e -> CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_UNDERSCORE, e.getName()))
+                .collect(Collectors.toList());
+    }
+
+    // 시퀀스로 id 를 만드는 테이블은 Hibernate 가 id 를 미리 할당해두므로 다시 시작하지 않습니다.
+    private boolean usesIdentity(Class<?> entityType) {
+        return Arrays.stream(entityType.getDeclaredFields())
+                .map(field -> field.getAnnotation(GeneratedValue.class))
+                .anyMatch(generatedValue -> generatedValue != null && generatedValue.strategy() == GenerationType.IDENTITY);
     }
 
     @Transactional
@@ -34,10 +62,18 @@ public class DatabaseCleanup implements InitializingBean {
 
         for (String tableName : tableNames) {
             entityManager.createNativeQuery("TRUNCATE TABLE " + tableName).executeUpdate();
+        }
+        for (String tableName : identityTableNames) {
             entityManager.createNativeQuery("ALTER TABLE " + tableName + " ALTER COLUMN ID RESTART WITH 1").executeUpdate();
         }
 
         entityManager.createNativeQuery("SET REFERENTIAL_INTEGRITY TRUE").executeUpdate();
+
+        // 모든 노선과 역이 지워졌으므로 변경을 구독하는 캐시들도 비웁니다.
+        eventPublisher.publishEvent(new LineChangedEvent(null));
+        eventPublisher.publishEvent(new StationChangedEvent(null));
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        entityManager.getEntityManagerFactory().getCache().evictAll();
     }
 
 }